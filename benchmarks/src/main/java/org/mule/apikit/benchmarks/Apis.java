@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.apikit.benchmarks;
+
+import org.mule.apikit.model.ApiSpecification;
+import org.mule.apikit.model.api.ApiReference;
+import org.mule.parser.service.ParserService;
+import org.mule.parser.service.result.ParseResult;
+import org.mule.parser.service.result.ParsingIssue;
+
+import static java.util.stream.Collectors.joining;
+import static org.mule.parser.service.ParserMode.AMF;
+
+final class Apis {
+
+  private Apis() {}
+
+  /**
+   * Parses the given spec with AMF, failing if it has errors.
+   *
+   * @param path path relative to the root of the checkout
+   */
+  static ApiSpecification parse(String path) {
+    ParseResult result = new ParserService().parse(ApiReference.create(Specs.location(path)), AMF);
+    if (!result.success()) {
+      throw new IllegalStateException("Couldn't parse " + path + ": "
+          + result.getErrors().stream().map(ParsingIssue::cause).collect(joining(", ")));
+    }
+    return result.get();
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.apikit.benchmarks;
+
+import org.mule.apikit.model.MimeType;
+import org.mule.apikit.validation.ApiValidationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mule.apikit.benchmarks.Specs.AMF;
+
+/**
+ * Validation of valid request bodies against the JSON schema and XSD of the leagues api.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MimeTypeValidationBenchmark {
+
+  @Param({"application/json", "text/xml"})
+  public String mediaType;
+
+  @Param({"1024", "65536", "1048576"})
+  public int size;
+
+  private MimeType mimeType;
+  private String payload;
+
+  @Setup
+  public void setUp() {
+    mimeType = Apis.parse(AMF + "leagues/raml10/api.raml").getResource("/leagues").getAction("POST").getBody().get(mediaType);
+    payload = "text/xml".equals(mediaType) ? xml(size) : json(size);
+    if (!mimeType.validate(payload).isEmpty()) {
+      throw new IllegalStateException("Invalid payload: " + mimeType.validate(payload));
+    }
+  }
+
+  @Benchmark
+  public List<ApiValidationResult> validate() {
+    return mimeType.validate(payload);
+  }
+
+  private static String json(int size) {
+    String prefix = "{\"name\": \"Liga Criolla\", \"id\": \"";
+    String suffix = "\"}";
+    return prefix + padding(size - prefix.length() - suffix.length()) + suffix;
+  }
+
+  private static String xml(int size) {
+    String prefix = "<league xmlns=\"http://mulesoft.com/schemas/soccer\"><name>Liga Criolla</name><description>";
+    String suffix = "</description></league>";
+    return prefix + padding(size - prefix.length() - suffix.length()) + suffix;
+  }
+
+  private static String padding(int length) {
+    StringBuilder builder = new StringBuilder(Math.max(length, 0));
+    for (int i = 0; i < length; i++) {
+      builder.append((char) ('a' + i % 26));
+    }
+    return builder.toString();
+  }
+}
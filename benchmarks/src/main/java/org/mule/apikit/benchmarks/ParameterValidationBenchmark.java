@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.apikit.benchmarks;
+
+import org.mule.apikit.model.ApiSpecification;
+import org.mule.apikit.model.parameter.Parameter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static org.mule.apikit.benchmarks.Specs.AMF;
+
+/**
+ * Validation of query parameter values of the AMF model, for scalar, array and union shapes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParameterValidationBenchmark {
+
+  private static final List<String> TAGS = asList("Comedy", "Female author");
+
+  private Parameter isbn;
+  private Parameter rating;
+  private Parameter tags;
+  private Parameter nullableString;
+
+  @Setup
+  public void setUp() {
+    ApiSpecification api = Apis.parse(AMF + "10-query-parameters/api.raml");
+    Map<String, Parameter> books = api.getResource("/books").getAction("GET").getQueryParameters();
+    isbn = books.get("isbn");
+    rating = books.get("rating");
+    tags = books.get("tags");
+    nullableString = api.getResource("/testNull").getAction("GET").getQueryParameters().get("nullableString");
+  }
+
+  @Benchmark
+  public boolean validateString() {
+    return isbn.validate("0321736079");
+  }
+
+  @Benchmark
+  public boolean validateNumber() {
+    return rating.validate("3.14");
+  }
+
+  @Benchmark
+  public boolean validateInvalidNumber() {
+    return rating.validate("three");
+  }
+
+  @Benchmark
+  public boolean validateArray() {
+    return tags.validateArray(TAGS);
+  }
+
+  @Benchmark
+  public boolean validateUnion() {
+    return nullableString.validate("Jane Doe");
+  }
+}
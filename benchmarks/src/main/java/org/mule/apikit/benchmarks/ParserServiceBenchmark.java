@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.apikit.benchmarks;
+
+import org.mule.apikit.model.api.ApiReference;
+import org.mule.parser.service.ParserMode;
+import org.mule.parser.service.ParserService;
+import org.mule.parser.service.result.ParseResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mule.apikit.benchmarks.Specs.PARSER_SERVICE;
+
+/**
+ * Cold parse of an api, the result cache of the service is not used.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserServiceBenchmark {
+
+  @Param({"AMF", "RAML", "AUTO"})
+  public ParserMode mode;
+
+  @Param({"api-10.raml", "api-08.raml", "oas/petstore.yaml"})
+  public String api;
+
+  private ParserService service;
+  private String location;
+
+  @Setup
+  public void setUp() {
+    service = new ParserService();
+    location = Specs.location(PARSER_SERVICE + api);
+  }
+
+  @Benchmark
+  public ParseResult parse() {
+    return service.parse(ApiReference.create(location), mode);
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.apikit.benchmarks;
+
+import org.mule.apikit.model.ApiSpecification;
+import org.mule.apikit.model.QueryString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.mule.apikit.benchmarks.Specs.AMF;
+
+/**
+ * Validation of query strings of the AMF model, declared as a plain object type and as a union of object types.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryStringValidationBenchmark {
+
+  private QueryString emails;
+  private QueryString locations;
+  private final Map<String, Collection<?>> email = new HashMap<>();
+  private final Map<String, Collection<?>> location = new HashMap<>();
+
+  @Setup
+  public void setUp() {
+    ApiSpecification api = Apis.parse(AMF + "10-query-string/api.raml");
+    emails = api.getResource("/emails").getAction("GET").queryString();
+    locations = api.getResource("/locations").getAction("GET").queryString();
+
+    email.put("subject", singletonList("Email Subject"));
+    email.put("to", asList("John", "Ana"));
+    email.put("body", singletonList("Email body"));
+    location.put("start", singletonList("2"));
+    location.put("lat", singletonList("12"));
+    location.put("long", singletonList("13"));
+  }
+
+  @Benchmark
+  public boolean validateObject() {
+    return emails.validate(email);
+  }
+
+  @Benchmark
+  public boolean validateUnion() {
+    return locations.validate(location);
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.apikit.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * Locates the specs under the {@code src/test/resources} folders of the other modules, so benchmarks run against the same apis as
+ * the tests. The checkout is looked up from the working directory, or taken from the {@value #MULE_APIKIT_BENCHMARKS_BASEDIR}
+ * system property.
+ */
+final class Specs {
+
+  static final String MULE_APIKIT_BENCHMARKS_BASEDIR = "mule.apikit.benchmarks.basedir";
+
+  static final String PARSER_SERVICE = "parser-service/src/test/resources/";
+  static final String AMF = "interface-impl-amf/src/test/resources/org/mule/amf/impl/";
+
+  private Specs() {}
+
+  /**
+   * @param path path relative to the root of the checkout
+   */
+  static String location(String path) {
+    File file = new File(baseDir(), path);
+    if (!file.exists()) {
+      throw new IllegalStateException("Spec not found: " + file.getAbsolutePath());
+    }
+    return file.getAbsolutePath();
+  }
+
+  static byte[] read(String path) throws IOException {
+    return Files.readAllBytes(new File(location(path)).toPath());
+  }
+
+  private static File baseDir() {
+    String baseDir = System.getProperty(MULE_APIKIT_BENCHMARKS_BASEDIR);
+    if (baseDir != null) {
+      return new File(baseDir);
+    }
+    File dir = new File(System.getProperty("user.dir")).getAbsoluteFile();
+    while (dir != null && !new File(dir, PARSER_SERVICE).isDirectory()) {
+      dir = dir.getParentFile();
+    }
+    if (dir == null) {
+      throw new IllegalStateException("Run the benchmarks from the project checkout or set -D" + MULE_APIKIT_BENCHMARKS_BASEDIR);
+    }
+    return dir;
+  }
+}
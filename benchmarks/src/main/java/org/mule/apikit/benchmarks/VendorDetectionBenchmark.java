@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.apikit.benchmarks;
+
+import org.mule.apikit.model.ApiVendor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.mule.apikit.benchmarks.Specs.PARSER_SERVICE;
+import static org.mule.apikit.common.ApiVendorUtils.deduceApiVendor;
+
+/**
+ * Detection of the vendor of an api from the content of its root file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VendorDetectionBenchmark {
+
+  @Param({"api-10.raml", "api-08.raml", "oas/petstore.yaml", "oas/petstore.json", "oas/oas3.yaml"})
+  public String api;
+
+  private byte[] content;
+
+  @Setup
+  public void setUp() throws IOException {
+    content = Specs.read(PARSER_SERVICE + api);
+  }
+
+  @Benchmark
+  public ApiVendor deduce() {
+    return deduceApiVendor(new ByteArrayInputStream(content));
+  }
+}
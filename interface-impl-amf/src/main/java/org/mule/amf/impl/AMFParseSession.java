@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.amf.impl;
+
+import org.mule.amf.impl.parser.factory.ParsedUnitCache;
+import org.mule.apikit.model.api.ApiReference;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Parses the same api repeatedly, e.g. while it is being edited, reusing the fragments and libraries that didn't change.
+ * <p>
+ * Every parser created by a session records the units referenced by the api and which unit references which. When a document
+ * changes, {@link #invalidate(String)} (or {@link #invalidateModified()} for local files) drops its unit and the units depending
+ * on it, and the next parser only parses those again.
+ */
+public class AMFParseSession {
+
+  private final ApiReference apiRef;
+  private final ScheduledExecutorService scheduler;
+  private final ParsedUnitCache units = new ParsedUnitCache();
+
+  public AMFParseSession(ApiReference apiRef, ScheduledExecutorService scheduler) {
+    this.apiRef = apiRef;
+    this.scheduler = scheduler;
+  }
+
+  /**
+   * @return a parser for the api of this session, reusing the units parsed by the previous ones
+   */
+  public AMFParser parser() {
+    return new AMFParser(apiRef, scheduler, units);
+  }
+
+  /**
+   * @param locations locations of the changed documents, either paths or urls
+   * @return the units that will be parsed again, i.e. the changed documents and every document depending on them
+   */
+  public Set<String> invalidate(String... locations) {
+    Set<String> invalidated = new LinkedHashSet<>();
+    for (String location : locations) {
+      invalidated.addAll(units.invalidate(location));
+    }
+    return invalidated;
+  }
+
+  /**
+   * Same as {@link #invalidate(String...)} for every local document modified since it was parsed.
+   */
+  public Set<String> invalidateModified() {
+    return units.invalidateModified();
+  }
+
+  public void invalidateAll() {
+    units.invalidateAll();
+  }
+
+  /**
+   * @return the documents that depend, directly or not, on the given one
+   */
+  public Set<String> getDependents(String location) {
+    return units.getDependents(location);
+  }
+
+  /**
+   * @return number of referenced units currently reused by new parsers
+   */
+  public int getCachedUnits() {
+    return units.size();
+  }
+}
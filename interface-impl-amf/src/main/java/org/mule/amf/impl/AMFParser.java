@@ -11,11 +11,14 @@ import amf.core.client.platform.execution.ExecutionEnvironment;
 import amf.core.client.platform.model.document.BaseUnit;
 import amf.core.client.platform.model.document.Document;
 import amf.core.client.platform.validation.AMFValidationReport;
+import amf.core.internal.remote.Spec;
 import org.mule.amf.impl.model.AMFImpl;
 import org.mule.amf.impl.parser.factory.AMFParserWrapper;
+import org.mule.amf.impl.parser.factory.ParsedUnitCache;
 import org.mule.amf.impl.parser.rule.ApiValidationResultImpl;
 import org.mule.amf.impl.util.LazyValue;
-import org.mule.apikit.ApiParser;
+import org.mule.apikit.AsyncApiParser;
+import org.mule.apikit.metrics.ParseMetrics;
 import org.mule.apikit.model.ApiSpecification;
 import org.mule.apikit.model.api.ApiReference;
 import org.mule.apikit.validation.ApiValidationReport;
@@ -26,17 +29,37 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ScheduledExecutorService;
 
 import static java.util.stream.Collectors.toList;
+import static org.mule.amf.impl.parser.factory.AMFParserWrapper.handleFuture;
+import static org.mule.apikit.metrics.ParsePhase.MODEL_BUILD;
 
-public class AMFParser implements ApiParser {
+public class AMFParser implements AsyncApiParser {
+
+  /**
+   * When set, the model used by the console is built by parsing the api again instead of copying the parsed one
+   */
+  private static final boolean REPARSE_CONSOLE_MODEL = Boolean.getBoolean("mule.apikit.parser.reparseConsoleModel");
+
+  /**
+   * When set, the model used by the console is built by parsing the api again and is only softly referenced, so it can be
+   * reclaimed when memory is low. Once the api is built, the parser also drops the documents it parsed and their issues, they are
+   * parsed again if they are needed afterwards. Read when the parser is created.
+   */
+  public static final String MULE_APIKIT_PARSER_LOW_FOOTPRINT = "mule.apikit.parser.lowFootprint";
 
   private ApiReference apiRef;
   private AMFParserWrapper parser;
   private LazyValue<WebApi> webApi;
-  private LazyValue<Document> document;
+  private LazyValue<CompletableFuture<BaseUnit>> unit;
+  private LazyValue<CompletableFuture<Document>> document;
   private ExecutionEnvironment executionEnvironment;
+  private ParsedUnitCache unitCache;
+  private ParseMetrics metrics;
+  private boolean lowFootprint;
 
   @Deprecated
   public AMFParser(ApiReference apiRef, boolean validate, ScheduledExecutorService scheduler) {
@@ -56,12 +79,40 @@ public class AMFParser implements ApiParser {
     initializeParser(apiRef, new ExecutionEnvironment());
   }
 
+  /**
+   * @param unitCache units referenced by the api are taken from, and recorded in, this cache, see {@link AMFParseSession}
+   */
+  public AMFParser(ApiReference apiRef, ScheduledExecutorService scheduler, ParsedUnitCache unitCache) {
+    initializeParser(apiRef, new ExecutionEnvironment(scheduler), unitCache, ParseMetrics.disabled());
+  }
+
+  /**
+   * @param metrics where the time spent in every phase of the parse is recorded
+   */
+  public AMFParser(ApiReference apiRef, ScheduledExecutorService scheduler, ParseMetrics metrics) {
+    initializeParser(apiRef, scheduler != null ? new ExecutionEnvironment(scheduler) : new ExecutionEnvironment(), null,
+                     metrics);
+  }
+
   private void initializeParser(ApiReference apiRef, ExecutionEnvironment executionEnvironment) {
+    initializeParser(apiRef, executionEnvironment, null, ParseMetrics.disabled());
+  }
+
+  private void initializeParser(ApiReference apiRef, ExecutionEnvironment executionEnvironment, ParsedUnitCache unitCache,
+                                ParseMetrics metrics) {
     this.apiRef = apiRef;
     this.executionEnvironment = executionEnvironment;
-    this.parser = getParser(apiRef, executionEnvironment);
-    this.document = new LazyValue<>(() -> parser.parseApi());
-    this.webApi = new LazyValue<>(() -> (WebApi) document.get().encodes());
+    this.unitCache = unitCache;
+    this.metrics = metrics;
+    this.lowFootprint = Boolean.getBoolean(MULE_APIKIT_PARSER_LOW_FOOTPRINT);
+    reset();
+  }
+
+  private void reset() {
+    this.parser = new AMFParserWrapper(apiRef, executionEnvironment, unitCache, metrics);
+    this.unit = new LazyValue<>(() -> parser.parseUnitAsync());
+    this.document = new LazyValue<>(() -> unit.get().thenApply(parser::resolve));
+    this.webApi = new LazyValue<>(() -> (WebApi) getDocument().encodes());
   }
 
   public static AMFParserWrapper getParser(ApiReference apiRef, ExecutionEnvironment execEnv) {
@@ -91,13 +142,36 @@ public class AMFParser implements ApiParser {
     }
   }
 
+  /**
+   * Locations of every document referenced by the api. Unlike {@link #parse()} this doesn't require the model to be resolved.
+   */
+  public List<String> getReferences() {
+    return getReferences(handleFuture(unit.get()).references());
+  }
+
+  private Document getDocument() {
+    return handleFuture(document.get());
+  }
+
   public WebApi getWebApi() {
     return webApi.get();
   }
 
   @Override
   public ApiValidationReport validate() {
-    AMFValidationReport validationReport = parser.getParsingReport(document.get());
+    return toApiValidationReport(parser.getParsingReport(getDocument()));
+  }
+
+  @Override
+  public CompletionStage<ApiValidationReport> validateAsync() {
+    try {
+      return document.get().thenCompose(parser::getParsingReportAsync).thenApply(this::toApiValidationReport);
+    } catch (RuntimeException e) {
+      return failedStage(e);
+    }
+  }
+
+  private ApiValidationReport toApiValidationReport(AMFValidationReport validationReport) {
     List<ApiValidationResult> results = new ArrayList<>(0);
     if (!validationReport.conforms()) {
       results = validationReport.results().stream().map(ApiValidationResultImpl::new).collect(toList());
@@ -108,11 +182,67 @@ public class AMFParser implements ApiParser {
 
   @Override
   public ApiSpecification parse() {
-    // We are forced to create a brand-new environment so this object (and therefore the original document) is not referenced
-    // anymore
-    AMFParserWrapper parserWrapper = getParser(apiRef, executionEnvironment);
-    return new AMFImpl(webApi.get(), getReferences(document.get().references()), apiRef.getVendor(),
-                       apiRef.getLocation(), parserWrapper);
+    return createApiSpecification(getDocument());
+  }
+
+  @Override
+  public CompletionStage<ApiSpecification> parseAsync() {
+    try {
+      return document.get().thenApply(this::createApiSpecification);
+    } catch (RuntimeException e) {
+      return failedStage(e);
+    }
+  }
+
+  private ApiSpecification createApiSpecification(Document resolved) {
+    ParseMetrics.Timer timer = metrics.start(MODEL_BUILD);
+    try {
+      AMFImpl api = createApiSpecification(apiRef, resolved, getReferences(resolved.references()), parser, executionEnvironment,
+                                           lowFootprint);
+      if (lowFootprint) {
+        // only the api model is kept, the unresolved unit, the resolved document and the issues of the parse are released
+        reset();
+      }
+      return api;
+    } finally {
+      timer.stop();
+    }
+  }
+
+  private static AMFImpl createApiSpecification(ApiReference apiRef, Document resolved, List<String> references,
+                                                AMFParserWrapper parser, ExecutionEnvironment executionEnvironment,
+                                                boolean lowFootprint) {
+    WebApi api = (WebApi) resolved.encodes();
+    if (REPARSE_CONSOLE_MODEL || lowFootprint) {
+      // Every build of the console model parses the api with a wrapper of its own, so neither the original document nor a
+      // wrapper holding parse results are referenced by the api
+      return new AMFImpl(api, references, apiRef.getVendor(), apiRef.getLocation(), parser,
+                         () -> getParser(apiRef, executionEnvironment).parseApi(), lowFootprint);
+    }
+    // The console model is a copy of the already resolved document, which is released once the copy is taken
+    return new AMFImpl(api, references, apiRef.getVendor(), apiRef.getLocation(), parser, resolved);
+  }
+
+  /**
+   * Builds an api from its resolved model rendered as an AMF graph (see {@link AMFImpl#dumpAmf()}), without reading the api
+   * again.
+   *
+   * @param specId id of the spec the api is written in, see {@link AMFImpl#getSpecId()}
+   * @param references locations of every document referenced by the api when the graph was rendered
+   */
+  public static AMFImpl fromGraph(ApiReference apiRef, String graph, String specId, List<String> references,
+                                  ScheduledExecutorService scheduler) {
+    ExecutionEnvironment executionEnvironment = new ExecutionEnvironment(scheduler);
+    AMFParserWrapper parser = getParser(apiRef, executionEnvironment);
+    Document resolved = handleFuture(parser.parseGraphAsync(graph, Spec.apply(specId)));
+    return createApiSpecification(apiRef, resolved, references, parser, executionEnvironment,
+                                  Boolean.getBoolean(MULE_APIKIT_PARSER_LOW_FOOTPRINT));
+  }
+
+  private static <T> CompletionStage<T> failedStage(Throwable e) {
+    CompletableFuture<T> failed = new CompletableFuture<>();
+    failed.completeExceptionally(e);
+    return failed;
   }
 
 }
@@ -10,24 +10,40 @@ import amf.core.client.common.remote.Content;
 import amf.core.client.platform.execution.ExecutionEnvironment;
 import amf.core.client.platform.resource.FileResourceLoader;
 import amf.core.client.platform.resource.ResourceLoader;
+import org.mule.amf.impl.util.LazyValue;
+import org.mule.apikit.common.ExchangeModulesIndex;
+import org.mule.apikit.loader.ResourceContentCache;
+import scala.Option;
 
 import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.concurrent.CompletableFuture;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+
+import static amf.core.internal.remote.FileMediaType.mimeFromExtension;
+import static org.apache.commons.io.FilenameUtils.getExtension;
+import static org.mule.apikit.common.ContentUtils.MAP_THRESHOLD;
+import static org.mule.apikit.common.ContentUtils.decodeUtf8;
+import static org.mule.apikit.common.ExchangeModulesIndex.getDependencyPath;
 
 public class ExchangeDependencyResourceLoader implements ResourceLoader {
 
   private final File workingDir;
   private final FileResourceLoader resourceLoader;
+  // built on the first dependency fetched, most apis have none
+  private final LazyValue<ExchangeModulesIndex> modules;
 
-  private static final Pattern DEPENDENCY_PATH_PATTERN = Pattern.compile("^exchange_modules/|/exchange_modules/");
+  private static final String FILE_SCHEME = "file:";
+  private static final String FILE_SCHEME_AUTHORITY = "file://";
 
   public ExchangeDependencyResourceLoader(String rootDir, ExecutionEnvironment executionEnvironment) {
     String basePath = rootDir != null ? rootDir : ".";
     this.workingDir = new File(basePath);
     this.resourceLoader = new FileResourceLoader(executionEnvironment);
+    this.modules = new LazyValue<>(() -> ExchangeModulesIndex.of(workingDir.toPath()));
   }
 
   @Override
@@ -39,14 +55,47 @@ public class ExchangeDependencyResourceLoader implements ResourceLoader {
       return future;
     }
 
-    final Matcher matcher = DEPENDENCY_PATH_PATTERN.matcher(path);
-    if (matcher.find()) {
+    final String resourceName = getDependencyPath(path);
+    if (resourceName != null) {
+      final Path dependency = modules.get().resolve(resourceName);
+      return fetchFile((dependency != null ? dependency : Paths.get(workingDir.getPath(), resourceName)).toUri().toString());
+    }
 
-      final int dependencyIndex = path.lastIndexOf(matcher.group(0));
-      final String resourceName = dependencyIndex <= 0 ? path : path.substring(dependencyIndex);
-      return resourceLoader.fetch(Paths.get(workingDir.getPath(), resourceName).toUri().toString());
+    return fetchFile(path);
+  }
+
+  /**
+   * Large files are memory-mapped and decoded straight into the content handed to AMF, the rest are read by AMF.
+   */
+  private CompletableFuture<Content> fetchFile(String path) {
+    final File file = toFile(path);
+    if (file == null || file.length() <= MAP_THRESHOLD) {
+      return resourceLoader.fetch(path);
     }
+    final CompletableFuture<Content> future = new CompletableFuture<>();
+    try {
+      String content = decodeUtf8(ResourceContentCache.getInstance().read(file.toURI()));
+      // same media type FileResourceLoader derives from the extension
+      Option<String> mime = mimeFromExtension(getExtension(file.getName()));
+      future.complete(mime.isDefined() ? new Content(content, path, mime.get()) : new Content(content, path));
+    } catch (IOException e) {
+      future.completeExceptionally(new RuntimeException("Failed to fetch resource '" + path + "'", e));
+    }
+    return future;
+  }
 
-    return resourceLoader.fetch(path);
+  private static File toFile(String path) {
+    if (!path.startsWith(FILE_SCHEME)) {
+      return null;
+    }
+    File file;
+    try {
+      file = new File(new URI(path));
+    } catch (URISyntaxException | IllegalArgumentException e) {
+      // not encoded, as the root location handed to AMF
+      file = new File(path.startsWith(FILE_SCHEME_AUTHORITY) ? path.substring(FILE_SCHEME_AUTHORITY.length())
+          : path.substring(FILE_SCHEME.length()));
+    }
+    return file.isFile() ? file : null;
   }
 }
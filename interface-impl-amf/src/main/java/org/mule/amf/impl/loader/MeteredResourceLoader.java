@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.amf.impl.loader;
+
+import amf.core.client.common.remote.Content;
+import amf.core.client.platform.resource.ResourceLoader;
+import org.mule.apikit.metrics.ParseMetrics;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.mule.apikit.metrics.ParsePhase.RESOURCE_LOADING;
+
+/**
+ * Records in {@link ParseMetrics} every resource fetched through the given loader.
+ */
+public class MeteredResourceLoader implements ResourceLoader {
+
+  private final ResourceLoader delegate;
+  private final ParseMetrics metrics;
+
+  public MeteredResourceLoader(ResourceLoader delegate, ParseMetrics metrics) {
+    this.delegate = delegate;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public CompletableFuture<Content> fetch(String resource) {
+    ParseMetrics.Timer timer = metrics.start(RESOURCE_LOADING);
+    return delegate.fetch(resource).whenComplete((content, e) -> {
+      timer.stop();
+      if (content != null) {
+        metrics.recordResourceLoaded(utf8Length(content.stream()));
+      }
+    });
+  }
+
+  @Override
+  public boolean accepts(String resource) {
+    return delegate.accepts(resource);
+  }
+
+  private static long utf8Length(CharSequence chars) {
+    long length = 0;
+    for (int i = 0; i < chars.length(); i++) {
+      char c = chars.charAt(i);
+      if (c < 0x80) {
+        length++;
+      } else if (c < 0x800) {
+        length += 2;
+      } else if (Character.isHighSurrogate(c) && i + 1 < chars.length() && Character.isLowSurrogate(chars.charAt(i + 1))) {
+        length += 4;
+        i++;
+      } else {
+        length += 3;
+      }
+    }
+    return length;
+  }
+}
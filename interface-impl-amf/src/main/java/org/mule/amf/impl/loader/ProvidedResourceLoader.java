@@ -8,9 +8,8 @@ package org.mule.amf.impl.loader;
 
 import amf.core.client.common.remote.Content;
 import java.net.URISyntaxException;
-import java.net.URL;
-import java.net.URLConnection;
 import org.apache.commons.io.IOUtils;
+import org.mule.apikit.loader.ResourceContentCache;
 import org.mule.apikit.loader.ResourceLoader;
 
 import java.io.IOException;
@@ -18,6 +17,8 @@ import java.io.InputStream;
 import java.net.URI;
 import java.util.concurrent.CompletableFuture;
 
+import static org.mule.apikit.common.ContentUtils.decodeUtf8;
+
 public class ProvidedResourceLoader implements amf.core.client.platform.resource.ResourceLoader {
 
   private ResourceLoader resourceLoader;
@@ -35,17 +36,17 @@ public class ProvidedResourceLoader implements amf.core.client.platform.resource
     }
 
     try {
-      InputStream streamResource = getResourceFromURI(resourceName);
+      String content = getContentFromURI(resourceName);
 
-      if (streamResource != null) {
-        future.complete(new Content(getContentFromStream(streamResource), resourceName));
+      if (content != null) {
+        future.complete(new Content(content, resourceName));
         return future;
       }
 
       URI resourceUri = resourceLoader.getResource(resourceName);
 
       if (resourceUri != null) {
-        streamResource = resourceLoader.getResourceAsStream(resourceName);
+        InputStream streamResource = resourceLoader.getResourceAsStream(resourceName);
         future.complete(new Content(getContentFromStream(streamResource), resourceUri.toString()));
         return future;
       }
@@ -75,15 +76,13 @@ public class ProvidedResourceLoader implements amf.core.client.platform.resource
     }
   }
 
-  private InputStream getResourceFromURI(String resourceName) {
+  // decoded straight from the cached, or memory-mapped, content
+  private String getContentFromURI(String resourceName) {
     try {
       if (!isValidUri(resourceName)) {
         return null;
       }
-      URL url = new URI(resourceName).toURL();
-      URLConnection urlConnection = url.openConnection();
-      urlConnection.setUseCaches(false);
-      return urlConnection.getInputStream();
+      return decodeUtf8(ResourceContentCache.getInstance().read(new URI(resourceName)));
     } catch (Exception e) {
       return null;
     }
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.amf.impl.loader;
+
+import amf.core.client.common.remote.Content;
+import amf.core.client.platform.resource.ResourceLoader;
+import org.mule.apikit.model.api.ApiReference;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mule.apikit.common.ContentUtils.decodeUtf8;
+
+/**
+ * Serves the root document of the api from the content already read by its {@link ApiReference} instead of reading it again. Any
+ * other resource is left to the rest of the loaders.
+ */
+public class RootContentResourceLoader implements ResourceLoader {
+
+  private static final String FILE_SCHEME = "file:";
+
+  private final ApiReference apiRef;
+  private final String rootPath;
+
+  /**
+   * @param location location the root document is parsed from
+   */
+  public RootContentResourceLoader(ApiReference apiRef, String location) {
+    this.apiRef = apiRef;
+    this.rootPath = path(location);
+  }
+
+  @Override
+  public CompletableFuture<Content> fetch(String resource) {
+    final CompletableFuture<Content> future = new CompletableFuture<>();
+    Optional<ByteBuffer> content = apiRef.getContent();
+    if (content.isPresent()) {
+      future.complete(new Content(decodeUtf8(content.get()), resource));
+    } else {
+      future.completeExceptionally(new Exception("Failed to fetch resource '" + resource + "'"));
+    }
+    return future;
+  }
+
+  @Override
+  public boolean accepts(String resource) {
+    return resource != null && rootPath.equals(path(resource)) && apiRef.getContent().isPresent();
+  }
+
+  // AMF may spell a file uri as file:/path or file:///path
+  private static String path(String location) {
+    if (!location.regionMatches(true, 0, FILE_SCHEME, 0, FILE_SCHEME.length())) {
+      return location;
+    }
+    int start = FILE_SCHEME.length();
+    while (start < location.length() && location.charAt(start) == '/') {
+      start++;
+    }
+    return location.substring(start);
+  }
+}
@@ -7,14 +7,18 @@
 package org.mule.amf.impl.model;
 
 import amf.apicontract.client.platform.AMFBaseUnitClient;
+import amf.apicontract.client.platform.AMFConfiguration;
 import amf.apicontract.client.platform.APIConfiguration;
 import amf.apicontract.client.platform.model.domain.EndPoint;
 import amf.apicontract.client.platform.model.domain.Server;
 import amf.apicontract.client.platform.model.domain.api.WebApi;
 import amf.core.client.platform.config.RenderOptions;
+import amf.core.client.platform.execution.ExecutionEnvironment;
 import amf.core.client.platform.model.document.Document;
+import amf.core.internal.remote.Spec;
 import org.mule.amf.impl.parser.factory.AMFParserWrapper;
 import org.mule.amf.impl.util.LazyValue;
+import org.mule.amf.impl.util.SoftLazyValue;
 import org.mule.apikit.ApiType;
 import org.mule.apikit.model.ApiSpecification;
 import org.mule.apikit.model.ApiVendor;
@@ -22,6 +26,7 @@ import org.mule.apikit.model.Resource;
 import org.mule.apikit.model.SecurityScheme;
 import org.mule.apikit.model.Template;
 import org.mule.apikit.model.parameter.Parameter;
+import org.mule.apikit.routing.ResourceRouter;
 import org.mulesoft.common.io.Output;
 import org.yaml.builder.JsonOutputBuilder;
 import scala.Option;
@@ -36,6 +41,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
@@ -50,19 +57,95 @@ public class AMFImpl implements ApiSpecification {
   private final Map<String, Map<String, Resource>> resources;
   private final List<String> references;
   private final ApiVendor apiVendor;
-  private final transient LazyValue<Document> consoleModel;
+  private final transient Supplier<Document> consoleModel;
+  private final transient BooleanSupplier consoleModelBuilt;
+  // document the api was built from, only held until the console model takes its copy
+  private transient volatile Document resolved;
+  private volatile String consoleBaseUri;
+  private final transient LazyValue<ResourceRouter> router;
   private final String apiLocation;
-  private final AMFParserWrapper parser;
+  // taken from the parser, which is not retained so its issues and the units it references can be released
+  private final AMFConfiguration amfConfiguration;
+  private final Spec spec;
+  private final ExecutionEnvironment executionEnvironment;
+  private final PayloadValidatorRegistry payloadValidators;
 
   public AMFImpl(WebApi webApi, List<String> references, ApiVendor vendor, String location,
                  AMFParserWrapper parser) {
+    this(webApi, references, vendor, location, parser, parser::parseApi);
+  }
+
+  /**
+   * @param consoleModel supplies the document rendered for the console, it must not share its graph with {@code webApi}
+   */
+  public AMFImpl(WebApi webApi, List<String> references, ApiVendor vendor, String location,
+                 AMFParserWrapper parser, Supplier<Document> consoleModel) {
+    this(webApi, references, vendor, location, parser, consoleModel, false);
+  }
+
+  /**
+   * @param resolved document {@code webApi} belongs to, the console model is a copy of it. It is released once the copy is taken.
+   */
+  public AMFImpl(WebApi webApi, List<String> references, ApiVendor vendor, String location,
+                 AMFParserWrapper parser, Document resolved) {
+    this(webApi, references, vendor, location, parser, null, false, resolved);
+  }
+
+  /**
+   * @param parser wrapper that parsed the api, only its configuration, spec and execution environment are kept
+   * @param consoleModel supplies the document rendered for the console, it must not share its graph with {@code webApi}
+   * @param softConsoleModel whether the console document is only softly referenced once built, so it can be reclaimed when memory
+   *        is low and built again when needed. {@code consoleModel} must then be able to supply it more than once.
+   */
+  public AMFImpl(WebApi webApi, List<String> references, ApiVendor vendor, String location,
+                 AMFParserWrapper parser, Supplier<Document> consoleModel, boolean softConsoleModel) {
+    this(webApi, references, vendor, location, parser, consoleModel, softConsoleModel, null);
+  }
+
+  private AMFImpl(WebApi webApi, List<String> references, ApiVendor vendor, String location,
+                  AMFParserWrapper parser, Supplier<Document> consoleModel, boolean softConsoleModel, Document resolved) {
     this.webApi = webApi;
-    this.parser = parser;
+    this.resolved = resolved;
+    this.amfConfiguration = parser.getAMFConfiguration();
+    this.spec = parser.getSpec();
+    this.executionEnvironment = parser.getExecutionEnvironment();
+    this.payloadValidators = new PayloadValidatorRegistry(amfConfiguration);
     this.resources = buildResources(webApi.endPoints());
     this.references = references;
     this.apiVendor = vendor;
     this.apiLocation = location;
-    this.consoleModel = new LazyValue<>(parser::parseApi);
+    Supplier<Document> consoleModelWithBaseUri =
+        () -> withConsoleBaseUri(consoleModel != null ? consoleModel.get() : copyOfResolved());
+    if (softConsoleModel) {
+      SoftLazyValue<Document> softValue = new SoftLazyValue<>(consoleModelWithBaseUri);
+      this.consoleModel = softValue;
+      this.consoleModelBuilt = softValue::isComputed;
+    } else {
+      LazyValue<Document> value = new LazyValue<>(consoleModelWithBaseUri);
+      this.consoleModel = value;
+      this.consoleModelBuilt = value::isComputed;
+    }
+    this.router = new LazyValue<>(this::buildRouter);
+  }
+
+  private Document copyOfResolved() {
+    Document copy = (Document) resolved.cloneUnit();
+    resolved = null;
+    return copy;
+  }
+
+  private Document withConsoleBaseUri(Document document) {
+    String baseUri = consoleBaseUri;
+    if (baseUri != null) {
+      updateBaseUri(baseUri, (WebApi) document.encodes());
+    }
+    return document;
+  }
+
+  private ResourceRouter buildRouter() {
+    Map<String, Resource> byUri = new LinkedHashMap<>();
+    resources.values().forEach(children -> children.values().forEach(resource -> byUri.put(resource.getUri(), resource)));
+    return new ResourceRouter(byUri);
   }
 
   private Map<String, Map<String, Resource>> buildResources(final List<EndPoint> endPoints) {
@@ -75,7 +158,7 @@ public class AMFImpl implements ApiSpecification {
     String parentKey = parentKey(endPoint);
     Map<String, Resource> parentMap = resources.computeIfAbsent(parentKey, k -> new LinkedHashMap<>());
     String childKey = endPoint.relativePath();
-    parentMap.put(childKey, new ResourceImpl(this, endPoint, parser.getAMFConfiguration()));
+    parentMap.put(childKey, new ResourceImpl(this, endPoint, amfConfiguration));
   }
 
   private static String parentKey(final EndPoint endPoint) {
@@ -114,6 +197,34 @@ public class AMFImpl implements ApiSpecification {
   }
 
 
+  /**
+   * @return payload validators shared by every request and response body of the api
+   */
+  public PayloadValidatorRegistry getPayloadValidators() {
+    return payloadValidators;
+  }
+
+  /**
+   * @return a router matching request paths against every resource of the api, built on first use
+   */
+  public ResourceRouter getRouter() {
+    return router.get();
+  }
+
+  /**
+   * @return the id of the spec the api is written in, as known by AMF
+   */
+  public String getSpecId() {
+    return spec.id();
+  }
+
+  @Override
+  public ApiSpecification materialize() {
+    ApiSpecification.super.materialize();
+    getRouter();
+    return this;
+  }
+
   @Override
   public Map<String, Resource> getResources() {
     return resources.getOrDefault("", emptyMap());
@@ -132,7 +243,7 @@ public class AMFImpl implements ApiSpecification {
   @Override
   public Map<String, Parameter> getBaseUriParameters() {
     return getServer().<Map<String, Parameter>>map(server -> server.variables().stream()
-        .collect(toMap(p -> p.name().value(), p -> new ParameterImpl(p, parser.getAMFConfiguration()))))
+        .collect(toMap(p -> p.name().value(), p -> new ParameterImpl(p, amfConfiguration, apiLocation))))
         .orElseGet(Collections::emptyMap);
   }
 
@@ -191,6 +302,22 @@ public class AMFImpl implements ApiSpecification {
     return renderApi(consoleModel.get());
   }
 
+  /**
+   * Same graph as {@link #dumpAmf()}, but rendered from the document the api was built from while it is still held, so the
+   * console model is not built just to render it.
+   */
+  public String dumpResolvedAmf() {
+    Document document = resolved;
+    return document != null ? renderApi(document) : dumpAmf();
+  }
+
+  /**
+   * @return whether the model used by the console is currently built
+   */
+  public boolean isConsoleModelBuilt() {
+    return consoleModelBuilt.getAsBoolean();
+  }
+
   public void writeAMFModel(OutputStream outputStream) {
     try (OutputStreamWriter writer = new OutputStreamWriter(outputStream, Charset.forName("UTF-8"))) {
       renderApi(consoleModel.get(), new JsonOutputBuilder<>(writer, false,
@@ -206,6 +333,8 @@ public class AMFImpl implements ApiSpecification {
    * @param baseUri new base URI value
    */
   public void updateBaseUri(String baseUri) {
+    // kept so the console document gets it too when it is built again
+    consoleBaseUri = baseUri;
     updateBaseUri(baseUri, webApi);
     updateBaseUri(baseUri, (WebApi) consoleModel.get().encodes());
   }
@@ -235,8 +364,8 @@ public class AMFImpl implements ApiSpecification {
         .withoutPrettyPrint()
         .withCompactUris();
     return APIConfiguration
-        .fromSpec(parser.getSpec())
-        .withExecutionEnvironment(parser.getExecutionEnvironment())
+        .fromSpec(spec)
+        .withExecutionEnvironment(executionEnvironment)
         .withRenderOptions(renderOptions).baseUnitClient();
   }
 
@@ -12,6 +12,7 @@ import amf.apicontract.client.platform.model.domain.Payload;
 import amf.apicontract.client.platform.model.domain.Request;
 import amf.core.client.platform.model.domain.Shape;
 import amf.shapes.client.platform.model.domain.AnyShape;
+import org.mule.amf.impl.util.LazyValue;
 import org.mule.apikit.model.Action;
 import org.mule.apikit.model.ActionType;
 import org.mule.apikit.model.MimeType;
@@ -28,6 +29,7 @@ import java.util.Map;
 import java.util.function.Predicate;
 
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
@@ -41,18 +43,26 @@ public class ActionImpl implements Action {
 
   private final ResourceImpl resource;
   private final Operation operation;
-  private Map<String, MimeType> bodies;
-  private Map<String, Response> responses;
-  private Map<String, Parameter> queryParameters;
-  private Map<String, Parameter> headers;
-  private Map<String, Parameter> resolvedUriParameters;
-  private QueryString queryString;
-  private String successStatusCode;
+  private final LazyValue<Map<String, MimeType>> bodies;
+  private final LazyValue<Map<String, Response>> responses;
+  private final LazyValue<Map<String, Parameter>> queryParameters;
+  private final LazyValue<Map<String, Parameter>> headers;
+  private final LazyValue<Map<String, Parameter>> resolvedUriParameters;
+  private final QueryString queryString;
+  private volatile String successStatusCode;
 
   public ActionImpl(final ResourceImpl resource, final Operation operation) {
     this.resource = resource;
     this.operation = operation;
     this.queryString = initializeQueryString(operation);
+    this.bodies = new LazyValue<>(() -> loadBodies(operation, resource.getAmfConfiguration(), resource.getPayloadValidators(),
+                                                   resource.getApiLocation()));
+    this.responses = new LazyValue<>(() -> loadResponses(operation, resource.getAmfConfiguration(),
+                                                         resource.getPayloadValidators(), resource.getApiLocation()));
+    this.queryParameters =
+        new LazyValue<>(() -> loadQueryParameters(operation, resource.getAmfConfiguration(), resource.getApiLocation()));
+    this.headers = new LazyValue<>(() -> loadHeaders(operation));
+    this.resolvedUriParameters = new LazyValue<>(() -> loadResolvedUriParameters(resource, operation));
   }
 
   @Override
@@ -67,18 +77,16 @@ public class ActionImpl implements Action {
 
   @Override
   public Map<String, Response> getResponses() {
-    if (responses == null) {
-      responses = loadResponses(operation, resource.getAmfConfiguration());
-    }
-    return responses;
+    return responses.get();
   }
 
-  private static Map<String, Response> loadResponses(final Operation operation, AMFConfiguration amfConfiguration) {
+  private static Map<String, Response> loadResponses(final Operation operation, AMFConfiguration amfConfiguration,
+                                                     PayloadValidatorRegistry payloadValidators, String apiLocation) {
     Map<String, Response> result = new LinkedHashMap<>();
     for (amf.apicontract.client.platform.model.domain.Response response : operation.responses()) {
-      result.put(response.statusCode().value(), new ResponseImpl(response, amfConfiguration));
+      result.put(response.statusCode().value(), new ResponseImpl(response, amfConfiguration, payloadValidators, apiLocation));
     }
-    return result;
+    return unmodifiableMap(result);
   }
 
   @Override
@@ -88,14 +96,11 @@ public class ActionImpl implements Action {
 
   @Override
   public Map<String, MimeType> getBody() {
-    if (bodies == null) {
-      bodies = loadBodies(operation, resource.getAmfConfiguration());
-    }
-
-    return bodies;
+    return bodies.get();
   }
 
-  private static Map<String, MimeType> loadBodies(final Operation operation, AMFConfiguration amfConfiguration) {
+  private static Map<String, MimeType> loadBodies(final Operation operation, AMFConfiguration amfConfiguration,
+                                                  PayloadValidatorRegistry payloadValidators, String apiLocation) {
     final Request request = operation.request();
     if (request == null) {
       return emptyMap();
@@ -105,29 +110,28 @@ public class ActionImpl implements Action {
 
     request.payloads().stream()
         .filter(payload -> payload.schema() != null)
-        .forEach(payload -> addMimeTypes(result, payload, amfConfiguration));
+        .forEach(payload -> addMimeTypes(result, payload, amfConfiguration, payloadValidators, apiLocation));
 
-    return result;
+    return unmodifiableMap(result);
   }
 
-  private static void addMimeTypes(Map<String, MimeType> result, Payload payload, AMFConfiguration amfConfiguration) {
+  private static void addMimeTypes(Map<String, MimeType> result, Payload payload, AMFConfiguration amfConfiguration,
+                                   PayloadValidatorRegistry payloadValidators, String apiLocation) {
     if (payload.mediaType().nonNull()) {
-      result.put(payload.mediaType().value(), new MimeTypeImpl(payload, amfConfiguration));
+      result.put(payload.mediaType().value(), new MimeTypeImpl(payload, amfConfiguration, payloadValidators, apiLocation));
     } else {
-      result.put(APPLICATION_JSON, new MimeTypeImpl(payload, amfConfiguration));
-      result.put(APPLICATION_XML, new MimeTypeImpl(payload, amfConfiguration));
+      result.put(APPLICATION_JSON, new MimeTypeImpl(payload, amfConfiguration, payloadValidators, apiLocation));
+      result.put(APPLICATION_XML, new MimeTypeImpl(payload, amfConfiguration, payloadValidators, apiLocation));
     }
   }
 
   @Override
   public Map<String, Parameter> getQueryParameters() {
-    if (queryParameters == null) {
-      queryParameters = loadQueryParameters(operation, this.resource.getAmfConfiguration());
-    }
-    return queryParameters;
+    return queryParameters.get();
   }
 
-  private static Map<String, Parameter> loadQueryParameters(final Operation operation, AMFConfiguration amfConfiguration) {
+  private static Map<String, Parameter> loadQueryParameters(final Operation operation, AMFConfiguration amfConfiguration,
+                                                            String apiLocation) {
     final Request request = operation.request();
     if (request == null) {
       return emptyMap();
@@ -135,9 +139,9 @@ public class ActionImpl implements Action {
 
     final Map<String, Parameter> result = new HashMap<>();
     request.queryParameters().forEach(parameter -> {
-      result.put(parameter.parameterName().value(), new ParameterImpl(parameter, amfConfiguration));
+      result.put(parameter.parameterName().value(), new ParameterImpl(parameter, amfConfiguration, apiLocation));
     });
-    return result;
+    return unmodifiableMap(result);
   }
 
   @Override
@@ -147,11 +151,7 @@ public class ActionImpl implements Action {
 
   @Override
   public Map<String, Parameter> getResolvedUriParameters() {
-    if (resolvedUriParameters == null) {
-      resolvedUriParameters = loadResolvedUriParameters(resource, operation);
-    }
-
-    return resolvedUriParameters;
+    return resolvedUriParameters.get();
   }
 
   /**
@@ -171,21 +171,19 @@ public class ActionImpl implements Action {
       operationUriParams =
           collectedUriParams.stream()
               .collect(toMap(p -> p.parameterName().value(),
-                             p -> new ParameterImpl(p, ((ResourceImpl) resource).getAmfConfiguration()),
+                             p -> new ParameterImpl(p, ((ResourceImpl) resource).getAmfConfiguration(),
+                                                    ((ResourceImpl) resource).getApiLocation()),
                              (p1, p2) -> p2));
     }
     final Map<String, Parameter> uriParameters = resource.getResolvedUriParameters();
     uriParameters.forEach(operationUriParams::putIfAbsent);
 
-    return operationUriParams;
+    return unmodifiableMap(operationUriParams);
   }
 
   @Override
   public Map<String, Parameter> getHeaders() {
-    if (headers == null) {
-      headers = loadHeaders(operation);
-    }
-    return headers;
+    return headers.get();
   }
 
   private Map<String, Parameter> loadHeaders(final Operation operation) {
@@ -196,9 +194,10 @@ public class ActionImpl implements Action {
 
     final Map<String, Parameter> result = new HashMap<>();
     request.headers().forEach(parameter -> {
-      result.put(parameter.parameterName().value(), new ParameterImpl(parameter, resource.getAmfConfiguration()));
+      result.put(parameter.parameterName().value(),
+                 new ParameterImpl(parameter, resource.getAmfConfiguration(), resource.getApiLocation()));
     });
-    return result;
+    return unmodifiableMap(result);
   }
 
   @Override
@@ -262,7 +261,8 @@ public class ActionImpl implements Action {
   private QueryString initializeQueryString(Operation op) {
     Request request = op.request();
     Shape shape = request != null ? request.queryString() : null;
-    return shape != null ? new QueryStringImpl((AnyShape) shape, resource.getAmfConfiguration()) : null;
+    return shape != null ? new QueryStringImpl((AnyShape) shape, resource.getAmfConfiguration(), resource.getApiLocation())
+        : null;
   }
 
 }
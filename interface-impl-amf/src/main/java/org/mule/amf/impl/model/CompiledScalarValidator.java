@@ -0,0 +1,361 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.amf.impl.model;
+
+import amf.core.client.platform.model.DoubleField;
+import amf.core.client.platform.model.StrField;
+import amf.core.client.platform.model.domain.DataNode;
+import amf.core.client.platform.model.domain.ScalarNode;
+import amf.core.client.platform.model.domain.Shape;
+import amf.shapes.client.platform.model.domain.AnyShape;
+import amf.shapes.client.platform.model.domain.ArrayShape;
+import amf.shapes.client.platform.model.domain.ScalarShape;
+import org.mule.amf.impl.model.ScalarFacets.Kind;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
+import static org.mule.amf.impl.model.ScalarFacets.intOrDefault;
+import static org.mule.amf.impl.model.ScalarFacets.kind;
+import static org.mule.amf.impl.model.ScalarType.ScalarTypes.STRING_ID;
+
+/**
+ * Plain Java validation of the facets of scalar shapes, and of arrays of them, used to skip the AMF payload validator.
+ * <p>
+ * It is only able to tell that a value is valid: values it can't certify (including every invalid one) must still go through AMF,
+ * so reports and messages keep being the ones AMF produces. Values are only certified when their canonical form leaves no room
+ * for the JSON or YAML document AMF would build to be read differently, e.g. integers without sign or exponent.
+ */
+final class CompiledScalarValidator {
+
+  // integers up to 15 digits are exactly representable as doubles, as are the 15 significant digits of numbers
+  private static final int MAX_DIGITS = 15;
+
+  private final Kind kind;
+  private final Set<String> enumValues;
+  private final Pattern pattern;
+  private final int minLength;
+  private final int maxLength;
+  private final double minimum;
+  private final double maximum;
+  private final boolean exclusiveMinimum;
+  private final boolean exclusiveMaximum;
+  private final long multipleOf;
+  private final boolean int32;
+
+  // array facets, only set when compiled from an array shape
+  private final boolean array;
+  private final int minItems;
+  private final int maxItems;
+  private final boolean uniqueItems;
+
+  private CompiledScalarValidator(Kind kind, Set<String> enumValues, Pattern pattern, int minLength, int maxLength,
+                                  double minimum, double maximum, boolean exclusiveMinimum, boolean exclusiveMaximum,
+                                  long multipleOf, boolean int32, boolean array, int minItems, int maxItems,
+                                  boolean uniqueItems) {
+    this.kind = kind;
+    this.enumValues = enumValues;
+    this.pattern = pattern;
+    this.minLength = minLength;
+    this.maxLength = maxLength;
+    this.minimum = minimum;
+    this.maximum = maximum;
+    this.exclusiveMinimum = exclusiveMinimum;
+    this.exclusiveMaximum = exclusiveMaximum;
+    this.multipleOf = multipleOf;
+    this.int32 = int32;
+    this.array = array;
+    this.minItems = minItems;
+    this.maxItems = maxItems;
+    this.uniqueItems = uniqueItems;
+  }
+
+  /**
+   * @return a validator for the given shape or {@code null} if it uses anything this class doesn't support
+   */
+  static CompiledScalarValidator forShape(AnyShape shape) {
+    try {
+      if (shape instanceof ScalarShape) {
+        return compile((ScalarShape) shape, false, -1, -1, false);
+      }
+      if (shape instanceof ArrayShape && !hasCompositions(shape)) {
+        ArrayShape array = (ArrayShape) shape;
+        Shape items = array.items();
+        if (!(items instanceof ScalarShape)) {
+          return null;
+        }
+        return compile((ScalarShape) items, true, intOrDefault(array.minItems(), -1), intOrDefault(array.maxItems(), -1),
+                       array.uniqueItems().nonNull() && array.uniqueItems().value());
+      }
+    } catch (RuntimeException e) {
+      // facets we don't understand, AMF will deal with them
+    }
+    return null;
+  }
+
+  private static CompiledScalarValidator compile(ScalarShape shape, boolean array, int minItems, int maxItems,
+                                                 boolean uniqueItems) {
+    if (hasCompositions(shape)) {
+      return null;
+    }
+    Kind kind = kind(shape.dataType().value());
+    if (kind == null) {
+      return null;
+    }
+    String format = shape.format().value();
+    boolean int32 = "int32".equals(format);
+    if (format != null && !format.isEmpty() && !(kind == Kind.INTEGER && (int32 || "int64".equals(format)))) {
+      return null;
+    }
+
+    Set<String> enumValues = null;
+    if (isNotEmpty(shape.values())) {
+      enumValues = enumValues(shape.values(), kind);
+      if (enumValues == null) {
+        return null;
+      }
+    }
+
+    Pattern pattern = null;
+    String regex = shape.pattern().value();
+    if (regex != null && !regex.isEmpty()) {
+      if (kind != Kind.STRING) {
+        return null;
+      }
+      try {
+        pattern = Pattern.compile(regex);
+      } catch (PatternSyntaxException e) {
+        return null;
+      }
+    }
+
+    int minLength = intOrDefault(shape.minLength(), -1);
+    int maxLength = intOrDefault(shape.maxLength(), -1);
+    if ((minLength >= 0 || maxLength >= 0) && kind != Kind.STRING) {
+      return null;
+    }
+
+    double minimum = doubleOrNaN(shape.minimum());
+    double maximum = doubleOrNaN(shape.maximum());
+    boolean exclusiveMinimum = shape.exclusiveMinimum().nonNull() && shape.exclusiveMinimum().value();
+    boolean exclusiveMaximum = shape.exclusiveMaximum().nonNull() && shape.exclusiveMaximum().value();
+    if ((!Double.isNaN(minimum) || !Double.isNaN(maximum)) && kind != Kind.INTEGER && kind != Kind.NUMBER) {
+      return null;
+    }
+
+    long multipleOf = 0;
+    double multiple = doubleOrNaN(shape.multipleOf());
+    if (!Double.isNaN(multiple)) {
+      // only integral multiples of integers are checked here
+      if (kind != Kind.INTEGER || multiple <= 0 || multiple != Math.rint(multiple) || multiple > 1e15) {
+        return null;
+      }
+      multipleOf = (long) multiple;
+    }
+
+    if (uniqueItems && kind == Kind.NUMBER) {
+      // 1.0 and 1.00 are the same item
+      return null;
+    }
+
+    return new CompiledScalarValidator(kind, enumValues, pattern, minLength, maxLength, minimum, maximum, exclusiveMinimum,
+                                       exclusiveMaximum, multipleOf, int32, array, minItems, maxItems, uniqueItems);
+  }
+
+  private static boolean hasCompositions(AnyShape shape) {
+    return isNotEmpty(shape.or()) || isNotEmpty(shape.and()) || isNotEmpty(shape.xone()) || shape.not() != null;
+  }
+
+  private static Set<String> enumValues(List<DataNode> nodes, Kind kind) {
+    Set<String> values = new HashSet<>();
+    for (DataNode node : nodes) {
+      if (!(node instanceof ScalarNode)) {
+        return null;
+      }
+      ScalarNode scalar = (ScalarNode) node;
+      // a string shape can't be matched by a number typed enum value
+      if (kind == Kind.STRING && !STRING_ID.equals(scalar.dataType().value())) {
+        return null;
+      }
+      String value = scalar.value().value();
+      if (value == null) {
+        return null;
+      }
+      values.add(value);
+    }
+    return values;
+  }
+
+  private static double doubleOrNaN(DoubleField field) {
+    return field.nonNull() ? field.value() : Double.NaN;
+  }
+
+  /**
+   * @param value the raw parameter value
+   * @param strategy strategy of the parameter, used to get the literal AMF would validate for non string values
+   * @return {@code true} if the value is valid, {@code false} if it is invalid or validity couldn't be decided
+   */
+  boolean isValid(String value, ParameterValidationStrategy strategy) {
+    if (array || value == null) {
+      return false;
+    }
+    return kind == Kind.STRING ? isValidString(value) : isValidLiteral(strategy.preProcessValue(value));
+  }
+
+  /**
+   * @return {@code true} if the values are valid items of the array, {@code false} if they are invalid or validity couldn't be
+   *         decided
+   */
+  boolean isValidArray(Collection<?> values) {
+    if (!array || values == null || values.isEmpty()) {
+      return false;
+    }
+    int size = values.size();
+    if ((minItems >= 0 && size < minItems) || (maxItems >= 0 && size > maxItems)) {
+      return false;
+    }
+    Set<String> seen = uniqueItems ? new HashSet<>() : null;
+    for (Iterator<?> it = values.iterator(); it.hasNext();) {
+      Object item = it.next();
+      if (item == null) {
+        return false;
+      }
+      String value = item.toString();
+      if (kind == Kind.STRING ? !isYamlSafe(value) || !isValidString(value) : !isValidLiteral(value)) {
+        return false;
+      }
+      if (seen != null && !seen.add(value)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean isValidString(String value) {
+    if (value == null) {
+      return false;
+    }
+    if (enumValues != null && !enumValues.contains(value)) {
+      return false;
+    }
+    if (minLength >= 0 || maxLength >= 0) {
+      int length = value.codePointCount(0, value.length());
+      if ((minLength >= 0 && length < minLength) || (maxLength >= 0 && length > maxLength)) {
+        return false;
+      }
+    }
+    return pattern == null || pattern.matcher(value).matches();
+  }
+
+  private boolean isValidLiteral(String literal) {
+    if (literal == null) {
+      return false;
+    }
+    if (enumValues != null && !enumValues.contains(literal)) {
+      return false;
+    }
+    switch (kind) {
+      case BOOLEAN:
+        return "true".equals(literal) || "false".equals(literal);
+      case INTEGER:
+        return isValidInteger(literal);
+      case NUMBER:
+        return isValidNumber(literal);
+      default:
+        return false;
+    }
+  }
+
+  private boolean isValidInteger(String literal) {
+    int length = literal.length();
+    int start = length > 0 && literal.charAt(0) == '-' ? 1 : 0;
+    int digits = length - start;
+    if (digits == 0 || digits > MAX_DIGITS || (literal.charAt(start) == '0' && (digits > 1 || start == 1))) {
+      return false;
+    }
+    long value = 0;
+    for (int i = start; i < length; i++) {
+      char c = literal.charAt(i);
+      if (c < '0' || c > '9') {
+        return false;
+      }
+      value = value * 10 + (c - '0');
+    }
+    if (start == 1) {
+      value = -value;
+    }
+    if (int32 && (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE)) {
+      return false;
+    }
+    if (multipleOf != 0 && value % multipleOf != 0) {
+      return false;
+    }
+    return isInRange(value, true);
+  }
+
+  private boolean isValidNumber(String literal) {
+    int length = literal.length();
+    int start = length > 0 && literal.charAt(0) == '-' ? 1 : 0;
+    int digits = 0;
+    int dot = -1;
+    for (int i = start; i < length; i++) {
+      char c = literal.charAt(i);
+      if (c == '.' && dot < 0) {
+        dot = i;
+      } else if (c >= '0' && c <= '9') {
+        digits++;
+      } else {
+        return false;
+      }
+    }
+    // -?(0|[1-9][0-9]*)(\.[0-9]+)?
+    int integerDigits = (dot < 0 ? length : dot) - start;
+    if (digits == 0 || digits > MAX_DIGITS || integerDigits == 0 || dot == length - 1
+        || (literal.charAt(start) == '0' && integerDigits > 1)) {
+      return false;
+    }
+    double value = Double.parseDouble(literal);
+    if (value == 0 && start == 1) {
+      return false;
+    }
+    // decimal values that round to a bound are left to AMF
+    return isInRange(value, false);
+  }
+
+  private boolean isInRange(double value, boolean exact) {
+    if (!Double.isNaN(minimum)) {
+      if (value < minimum || (value == minimum && (exclusiveMinimum || !exact))) {
+        return false;
+      }
+    }
+    if (!Double.isNaN(maximum)) {
+      if (value > maximum || (value == maximum && (exclusiveMaximum || !exact))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Whether the value reads the same once quoted and escaped as an item of the YAML sequence given to AMF.
+   */
+  private static boolean isYamlSafe(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c < 0x20 || (c >= 0x7F && c <= 0x9F) || c == 0x2028 || c == 0x2029 || c == 0xFEFF) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -9,7 +9,6 @@ package org.mule.amf.impl.model;
 import amf.apicontract.client.platform.AMFConfiguration;
 import amf.apicontract.client.platform.model.domain.Encoding;
 import amf.apicontract.client.platform.model.domain.Payload;
-import amf.core.client.common.validation.ValidationMode;
 import amf.core.client.platform.model.domain.PropertyShape;
 import amf.core.client.platform.model.domain.Shape;
 import amf.core.client.platform.validation.AMFValidationReport;
@@ -18,13 +17,15 @@ import amf.shapes.client.platform.model.domain.AnyShape;
 import amf.shapes.client.platform.model.domain.Example;
 import amf.shapes.client.platform.model.domain.NodeShape;
 import amf.shapes.client.platform.model.domain.UnionShape;
-import amf.xml.client.platform.plugin.XmlValidationPlugin;
 import org.mule.amf.impl.parser.rule.ApiValidationResultImpl;
+import org.mule.amf.impl.util.LazyValue;
+import org.mule.apikit.metrics.ParserEvents;
 import org.mule.apikit.model.MimeType;
 import org.mule.apikit.model.parameter.Parameter;
 import org.mule.apikit.validation.ApiValidationResult;
 import org.mule.apikit.validation.ExceptionApiValidationResult;
 
+import java.io.Reader;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -32,16 +33,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
 import static com.google.common.collect.ImmutableList.of;
 import static java.lang.String.format;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
+import static java.util.Collections.unmodifiableMap;
 import static java.util.stream.Collectors.toList;
 import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
-import static org.apache.commons.collections4.MapUtils.isNotEmpty;
 import static org.apache.commons.lang3.ObjectUtils.firstNonNull;
 import static org.mule.amf.impl.model.MediaType.getMimeTypeForValue;
 
@@ -49,16 +49,38 @@ public class MimeTypeImpl implements MimeType {
 
   private final Payload payload;
   private final Shape shape;
-  private final Map<String, AMFShapePayloadValidator> payloadValidatorMap = new ConcurrentHashMap<>();
+  private final PayloadValidatorRegistry payloadValidators;
   private final String defaultMediaType;
   private final AMFConfiguration amfConfiguration;
-  private Map<String, List<Parameter>> formParameters;
+  private final String apiLocation;
+  private final LazyValue<Map<String, List<Parameter>>> formParameters;
+  private final LazyValue<StreamingJsonValidator> streamingValidator;
 
   public MimeTypeImpl(final Payload payload, AMFConfiguration amfConfiguration) {
+    this(payload, amfConfiguration, new PayloadValidatorRegistry(amfConfiguration));
+  }
+
+  /**
+   * @param payloadValidators registry shared by the bodies of the api
+   */
+  public MimeTypeImpl(final Payload payload, AMFConfiguration amfConfiguration, PayloadValidatorRegistry payloadValidators) {
+    this(payload, amfConfiguration, payloadValidators, null);
+  }
+
+  /**
+   * @param payloadValidators registry shared by the bodies of the api
+   * @param apiLocation location of the api the body belongs to, reported in validation events
+   */
+  public MimeTypeImpl(final Payload payload, AMFConfiguration amfConfiguration, PayloadValidatorRegistry payloadValidators,
+                      String apiLocation) {
     this.payload = payload;
     this.shape = payload.schema();
     this.defaultMediaType = this.payload.mediaType().option().orElse(null);
     this.amfConfiguration = amfConfiguration;
+    this.apiLocation = apiLocation;
+    this.payloadValidators = payloadValidators;
+    this.streamingValidator = new LazyValue<>(() -> isJson(getType()) ? StreamingJsonValidator.forShape(shape) : null);
+    this.formParameters = new LazyValue<>(this::loadFormParameters);
   }
 
   @Override
@@ -80,10 +102,10 @@ public class MimeTypeImpl implements MimeType {
 
   @Override
   public Map<String, List<Parameter>> getFormParameters() {
-    if (isNotEmpty(formParameters)) {
-      return formParameters;
-    }
+    return formParameters.get();
+  }
 
+  private Map<String, List<Parameter>> loadFormParameters() {
     String mediaType = payload.mediaType().value();
 
     if (mediaType.startsWith("multipart/form-data") || mediaType.equals("application/x-www-form-urlencoded")) {
@@ -96,15 +118,15 @@ public class MimeTypeImpl implements MimeType {
       Map<String, Set<String>> formParametersEncoding = getFormParametersEncoding();
 
 
-      formParameters = new LinkedHashMap<>();
+      Map<String, List<Parameter>> formParameters = new LinkedHashMap<>();
       for (PropertyShape propertyShape : nodeShape.properties()) {
         String propertyName = propertyShape.name().value();
         formParameters.put(propertyName,
                            singletonList(new ParameterImpl(propertyShape, formParametersEncoding.get(propertyName),
-                                                           amfConfiguration)));
+                                                           amfConfiguration, apiLocation)));
       }
 
-      return formParameters;
+      return unmodifiableMap(formParameters);
     }
 
     return emptyMap();
@@ -174,9 +196,19 @@ public class MimeTypeImpl implements MimeType {
   @Override
   public List<ApiValidationResult> validate(String payload) {
     String mimeType = getMimeTypeForValue(payload);
+    ParserEvents events = ParserEvents.get();
+    if (!events.isEnabled()) {
+      return validate(payload, mimeType);
+    }
+    ParserEvents.Event event = events.beginValidation("payload", mimeType, apiLocation);
+    List<ApiValidationResult> results = validate(payload, mimeType);
+    event.end(results.isEmpty(), payload != null ? payload.length() : 0);
+    return results;
+  }
+
+  private List<ApiValidationResult> validate(String payload, String mimeType) {
 
-    AMFShapePayloadValidator payloadValidator = payloadValidatorMap.computeIfAbsent(mimeType,
-                                                                                    payloadMimeType -> getPayloadValidator(payloadMimeType));
+    AMFShapePayloadValidator payloadValidator = payloadValidators.get(shape, mimeType);
 
     if (payloadValidator != null) {
       return mapToValidationResult(payloadValidator.syncValidate(payload));
@@ -185,10 +217,21 @@ public class MimeTypeImpl implements MimeType {
               new ExceptionApiValidationResult(new RuntimeException(format("Validator not found for %s", mimeType))));
   }
 
-  private AMFShapePayloadValidator getPayloadValidator(String mediaType) {
-    return amfConfiguration.withShapePayloadPlugin(new XmlValidationPlugin()).elementClient()
-        .payloadValidatorFor(shape, mediaType,
-                             ValidationMode.StrictValidationMode());
+  /**
+   * JSON payloads of supported shapes are validated while they are read, otherwise the payload is read fully and validated by
+   * AMF.
+   */
+  @Override
+  public List<ApiValidationResult> validate(Reader payload, boolean failFast) {
+    StreamingJsonValidator validator = streamingValidator.get();
+    if (validator == null) {
+      return MimeType.super.validate(payload, failFast);
+    }
+    return validator.validate(payload, failFast);
+  }
+
+  private static boolean isJson(String mediaType) {
+    return mediaType != null && mediaType.toLowerCase().contains("json");
   }
 
   private static List<ApiValidationResult> mapToValidationResult(AMFValidationReport validationReport) {
@@ -25,6 +25,7 @@ import amf.shapes.client.platform.model.domain.UnionShape;
 import com.google.common.collect.ImmutableSet;
 import org.mule.amf.impl.exceptions.UnsupportedSchemaException;
 import org.mule.amf.impl.util.LazyValue;
+import org.mule.apikit.metrics.ParserEvents;
 import org.mule.apikit.model.parameter.FileProperties;
 import org.mule.apikit.model.parameter.Parameter;
 import org.mule.metadata.api.model.MetadataType;
@@ -55,11 +56,13 @@ class ParameterImpl implements Parameter {
   public static final String BOOLEAN_DATA_TYPE = "boolean";
 
   private final ParameterValidationStrategy validationStrategy;
+  private final String apiLocation;
   private AnyShape schema;
   private Set<String> allowedEncoding;
   private boolean required;
 
   private LazyValue<List<String>> defaultValues;
+  private LazyValue<CompiledScalarValidator> compiledValidator;
 
   private LazyValue<Boolean> isArray = new LazyValue<>(() -> schema instanceof ArrayShape ||
       schema instanceof UnionShape && hasAnArrayVariant((UnionShape) schema));
@@ -67,30 +70,57 @@ class ParameterImpl implements Parameter {
   private LazyValue<Boolean> isNullable = new LazyValue<>(() -> schema instanceof NilShape ||
       schema instanceof UnionShape && hasNilShape((UnionShape) schema));
 
-  ParameterImpl(amf.apicontract.client.platform.model.domain.Parameter parameter, AMFConfiguration amfConfiguration) {
-    this(getSchema(parameter), parameter.required().value(), amfConfiguration);
+  ParameterImpl(amf.apicontract.client.platform.model.domain.Parameter parameter, AMFConfiguration amfConfiguration,
+                String apiLocation) {
+    this(getSchema(parameter), parameter.required().value(), amfConfiguration, apiLocation);
   }
 
-  ParameterImpl(PropertyShape property, AMFConfiguration amfConfiguration) {
-    this(castToAnyShape(property.range()), property.minCount().value() > 0, amfConfiguration);
+  ParameterImpl(PropertyShape property, AMFConfiguration amfConfiguration, String apiLocation) {
+    this(castToAnyShape(property.range()), property.minCount().value() > 0, amfConfiguration, apiLocation);
   }
 
-  ParameterImpl(PropertyShape property, Set<String> allowedEncoding, AMFConfiguration amfConfiguration) {
-    this(property, amfConfiguration);
+  ParameterImpl(PropertyShape property, Set<String> allowedEncoding, AMFConfiguration amfConfiguration, String apiLocation) {
+    this(property, amfConfiguration, apiLocation);
     this.allowedEncoding = allowedEncoding;
   }
 
-  ParameterImpl(AnyShape anyShape, boolean required, AMFConfiguration amfConfiguration) {
+  /**
+   * @param apiLocation location of the api the parameter belongs to, reported in validation events
+   */
+  ParameterImpl(AnyShape anyShape, boolean required, AMFConfiguration amfConfiguration, String apiLocation) {
     this.schema = anyShape;
     this.required = required;
+    this.apiLocation = apiLocation;
     this.validationStrategy = ParameterValidationStrategyFactory
         .getStrategy(anyShape, needsQuotes(anyShape), amfConfiguration.elementClient());
     this.defaultValues = new LazyValue<>(() -> getDefaultValuesFromSchema(schema));
+    this.compiledValidator = new LazyValue<>(() -> CompiledScalarValidator.forShape(schema));
   }
 
   @Override
   public boolean validate(String value) {
-    return validatePayload(value).conforms();
+    ParserEvents events = ParserEvents.get();
+    if (!events.isEnabled()) {
+      return isValid(value);
+    }
+    ParserEvents.Event event = events.beginValidation("parameter", schema.name().value(), apiLocation);
+    boolean valid = isValid(value);
+    event.end(valid, value != null ? value.length() : 0);
+    return valid;
+  }
+
+  private boolean isValid(String value) {
+    return isValidWithoutAMF(value) || validatePayload(value).conforms();
+  }
+
+  private boolean isValidWithoutAMF(String value) {
+    CompiledScalarValidator compiled = compiledValidator.get();
+    return compiled != null && compiled.isValid(value, validationStrategy);
+  }
+
+  private boolean isValidWithoutAMF(Collection<?> values) {
+    CompiledScalarValidator compiled = compiledValidator.get();
+    return compiled != null && compiled.isValidArray(values);
   }
 
   AMFValidationReport validatePayload(String value) {
@@ -111,6 +141,9 @@ class ParameterImpl implements Parameter {
 
   @Override
   public String message(String value) {
+    if (isValidWithoutAMF(value)) {
+      return "OK";
+    }
     return getErrorMessageFromReport(validatePayload(value));
   }
 
@@ -126,6 +159,9 @@ class ParameterImpl implements Parameter {
 
   @Override
   public String messageFromValues(Collection<?> values) {
+    if (isValidWithoutAMF(values)) {
+      return "OK";
+    }
     String arrayAsYamlValue = getArrayAsYamlValue(this, values);
     return getErrorMessageFromReport(validatePayload(arrayAsYamlValue));
   }
@@ -237,6 +273,9 @@ class ParameterImpl implements Parameter {
 
   @Override
   public boolean validateArray(Collection<?> values) {
+    if (isValidWithoutAMF(values)) {
+      return true;
+    }
     return validate(getArrayAsYamlValue(this, values));
   }
 
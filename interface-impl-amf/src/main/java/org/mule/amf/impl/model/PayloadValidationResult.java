@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.amf.impl.model;
+
+import org.mule.apikit.validation.ApiValidationResult;
+import org.mule.apikit.validation.Severity;
+
+import java.util.Optional;
+
+import static org.mule.apikit.validation.Severity.ERROR;
+
+/**
+ * Error found by {@link StreamingJsonValidator}.
+ */
+final class PayloadValidationResult implements ApiValidationResult {
+
+  private final String message;
+  private final String path;
+  private final int line;
+
+  PayloadValidationResult(String message, String path, int line) {
+    this.message = message;
+    this.path = path;
+    this.line = line;
+  }
+
+  @Override
+  public String getMessage() {
+    return path.isEmpty() ? message : path + ": " + message;
+  }
+
+  @Override
+  public Optional<Integer> getLine() {
+    return line > 0 ? Optional.of(line) : Optional.empty();
+  }
+
+  /**
+   * @return JSON pointer to the invalid value
+   */
+  @Override
+  public String getPath() {
+    return path;
+  }
+
+  @Override
+  public Severity getSeverity() {
+    return ERROR;
+  }
+
+  @Override
+  public String toString() {
+    return getMessage();
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.amf.impl.model;
+
+import amf.apicontract.client.platform.AMFConfiguration;
+import amf.apicontract.client.platform.AMFElementClient;
+import amf.core.client.common.validation.ValidationMode;
+import amf.core.client.platform.model.domain.Shape;
+import amf.core.client.platform.validation.payload.AMFShapePayloadValidator;
+import amf.xml.client.platform.plugin.XmlValidationPlugin;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader.InvalidCacheLoadException;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.mule.amf.impl.util.LazyValue;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Payload validators of an api, shared by every request and response body validating against the same shape.
+ * <p>
+ * Validators are keyed by shape id and media type, so a type reused by several operations is only compiled once per media type.
+ * Shapes without an id are keyed by identity instead. The number of validators kept is bounded by the
+ * {@value #MULE_APIKIT_PARSER_VALIDATOR_CACHE_SIZE} system property, least recently used ones are evicted first.
+ */
+public final class PayloadValidatorRegistry {
+
+  public static final String MULE_APIKIT_PARSER_VALIDATOR_CACHE_SIZE = "mule.apikit.parser.validatorCacheSize";
+  static final int DEFAULT_MAXIMUM_SIZE = 512;
+
+  private final LazyValue<AMFElementClient> client;
+  private final Cache<Key, AMFShapePayloadValidator> validators;
+
+  public PayloadValidatorRegistry(AMFConfiguration amfConfiguration) {
+    this(amfConfiguration, Integer.getInteger(MULE_APIKIT_PARSER_VALIDATOR_CACHE_SIZE, DEFAULT_MAXIMUM_SIZE));
+  }
+
+  public PayloadValidatorRegistry(AMFConfiguration amfConfiguration, long maximumSize) {
+    this.client = new LazyValue<>(() -> amfConfiguration.withShapePayloadPlugin(new XmlValidationPlugin()).elementClient());
+    this.validators = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+  }
+
+  /**
+   * @return the validator of the given shape for the given media type, or {@code null} if AMF has none
+   */
+  public AMFShapePayloadValidator get(Shape shape, String mediaType) {
+    if (shape == null) {
+      return create(null, mediaType);
+    }
+    try {
+      return validators.get(new Key(shape, mediaType), () -> create(shape, mediaType));
+    } catch (InvalidCacheLoadException e) {
+      // no validator for the media type, not cached so the next call asks AMF again as it used to
+      return null;
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new RuntimeException(e.getCause());
+    }
+  }
+
+  private AMFShapePayloadValidator create(Shape shape, String mediaType) {
+    return client.get().payloadValidatorFor(shape, mediaType, ValidationMode.StrictValidationMode());
+  }
+
+  /**
+   * @return hit, miss and eviction counters of the registry
+   */
+  public CacheStats stats() {
+    return validators.stats();
+  }
+
+  public long size() {
+    return validators.size();
+  }
+
+  public void invalidateAll() {
+    validators.invalidateAll();
+  }
+
+  private static final class Key {
+
+    private final String shapeId;
+    private final Shape shape;
+    private final String mediaType;
+
+    Key(Shape shape, String mediaType) {
+      this.shapeId = shape.id();
+      // only kept to compare by identity when the shape has no id
+      this.shape = shapeId == null ? shape : null;
+      this.mediaType = mediaType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) o;
+      return Objects.equals(shapeId, key.shapeId) && shape == key.shape && Objects.equals(mediaType, key.mediaType);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * (shapeId != null ? shapeId.hashCode() : System.identityHashCode(shape)) + Objects.hashCode(mediaType);
+    }
+  }
+}
@@ -17,6 +17,8 @@ import amf.shapes.client.platform.model.domain.ArrayShape;
 import amf.shapes.client.platform.model.domain.NodeShape;
 import amf.shapes.client.platform.model.domain.ScalarShape;
 import amf.shapes.client.platform.model.domain.UnionShape;
+import org.mule.amf.impl.util.LazyValue;
+import org.mule.apikit.metrics.ParserEvents;
 import org.mule.apikit.model.QueryString;
 import org.mule.apikit.model.parameter.Parameter;
 
@@ -24,23 +26,39 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Collections.singletonList;
+import static java.util.Collections.unmodifiableMap;
+import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 import static org.mule.amf.impl.model.MediaType.APPLICATION_YAML;
 import static org.mule.amf.impl.model.MediaType.getMimeTypeForValue;
 import static org.mule.apikit.ParserUtils.queryStringAsYamlValue;
+import static org.mule.apikit.ParserUtils.validateQueryString;
 
 public class QueryStringImpl implements QueryString {
 
   private final AMFConfiguration amfConfiguration;
-  private AnyShape schema;
+  private final AnyShape schema;
+  private final String apiLocation;
 
-  private final Map<String, AMFShapePayloadValidator> payloadValidatorMap = new HashMap<>();
+  private final Map<String, AMFShapePayloadValidator> payloadValidatorMap = new ConcurrentHashMap<>();
   private final String defaultMediaType = APPLICATION_YAML;
+  private final LazyValue<Map<String, Parameter>> facets = new LazyValue<>(this::loadFacets);
+  private final LazyValue<Boolean> plainObject = new LazyValue<>(this::isPlainObject);
 
   public QueryStringImpl(AnyShape anyShape, AMFConfiguration amfConfiguration) {
+    this(anyShape, amfConfiguration, null);
+  }
+
+  /**
+   * @param apiLocation location of the api the query string belongs to, reported in validation events
+   */
+  public QueryStringImpl(AnyShape anyShape, AMFConfiguration amfConfiguration, String apiLocation) {
     this.schema = anyShape;
     this.amfConfiguration = amfConfiguration;
+    this.apiLocation = apiLocation;
   }
 
   @Override
@@ -60,7 +78,26 @@ public class QueryStringImpl implements QueryString {
 
   @Override
   public boolean validate(Map<String, Collection<?>> queryParams) {
-    String queryStringYaml = queryStringAsYamlValue(facets(), queryParams);
+    ParserEvents events = ParserEvents.get();
+    if (!events.isEnabled()) {
+      return isValid(queryParams);
+    }
+    ParserEvents.Event event = events.beginValidation("queryString", schema.name().value(), apiLocation);
+    boolean valid = isValid(queryParams);
+    event.end(valid, queryParams.size());
+    return valid;
+  }
+
+  private boolean isValid(Map<String, Collection<?>> queryParams) {
+    Map<String, Parameter> facets = facets();
+    if (plainObject.get()) {
+      Optional<Boolean> valid = validateQueryString(facets, queryParams);
+      if (valid.isPresent()) {
+        return valid.get();
+      }
+    }
+
+    String queryStringYaml = queryStringAsYamlValue(facets, queryParams);
 
     // If no YAML, empty value ends up in an empty JSON object
     if (queryStringYaml.isEmpty()) {
@@ -70,22 +107,24 @@ public class QueryStringImpl implements QueryString {
     return validate(queryStringYaml);
   }
 
+  /**
+   * Whether the query string is valid when all of its facets are, so it can be validated without building a YAML document.
+   */
+  private boolean isPlainObject() {
+    if (!(schema instanceof NodeShape)) {
+      return false;
+    }
+    NodeShape nodeShape = (NodeShape) schema;
+    return isEmpty(nodeShape.or()) && isEmpty(nodeShape.and()) && isEmpty(nodeShape.xone()) && nodeShape.not() == null
+        && nodeShape.minProperties().isNull() && nodeShape.maxProperties().isNull() && nodeShape.discriminator().isNullOrEmpty()
+        && isEmpty(nodeShape.dependencies()) && nodeShape.propertyNames() == null
+        && nodeShape.properties().stream().allMatch(property -> property.patternName().isNullOrEmpty());
+  }
+
   private AMFValidationReport validatePayload(String value) {
     final String mimeType = getMimeTypeForValue(value);
 
-    AMFShapePayloadValidator payloadValidator;
-    if (!payloadValidatorMap.containsKey(mimeType)) {
-      payloadValidator =
-          amfConfiguration.elementClient().payloadValidatorFor(schema, mimeType, ValidationMode.StrictValidationMode());
-      if (payloadValidator == null) {
-        payloadValidator = amfConfiguration.elementClient().payloadValidatorFor(schema, defaultMediaType,
-                                                                                ValidationMode.StrictValidationMode());
-      }
-
-      payloadValidatorMap.put(mimeType, payloadValidator);
-    } else {
-      payloadValidator = payloadValidatorMap.get(mimeType);
-    }
+    AMFShapePayloadValidator payloadValidator = payloadValidatorMap.computeIfAbsent(mimeType, this::createPayloadValidator);
 
     if (payloadValidator != null) {
       return payloadValidator.syncValidate(value);
@@ -94,6 +133,16 @@ public class QueryStringImpl implements QueryString {
     }
   }
 
+  private AMFShapePayloadValidator createPayloadValidator(String mimeType) {
+    AMFShapePayloadValidator payloadValidator =
+        amfConfiguration.elementClient().payloadValidatorFor(schema, mimeType, ValidationMode.StrictValidationMode());
+    if (payloadValidator == null) {
+      payloadValidator = amfConfiguration.elementClient().payloadValidatorFor(schema, defaultMediaType,
+                                                                              ValidationMode.StrictValidationMode());
+    }
+    return payloadValidator;
+  }
+
   @Override
   public boolean isScalar() {
     return schema instanceof ScalarShape;
@@ -113,15 +162,19 @@ public class QueryStringImpl implements QueryString {
 
   @Override
   public Map<String, Parameter> facets() {
-    HashMap<String, Parameter> result = new HashMap<>();
+    return facets.get();
+  }
+
+  private Map<String, Parameter> loadFacets() {
+    Map<String, Parameter> result = new HashMap<>();
     for (Shape schema : getSchemas()) {
       if (schema instanceof NodeShape) {
         for (PropertyShape type : ((NodeShape) schema).properties()) {
-          result.put(type.name().value(), new ParameterImpl(type, amfConfiguration));
+          result.put(type.name().value(), new ParameterImpl(type, amfConfiguration, apiLocation));
         }
       }
     }
-    return result;
+    return unmodifiableMap(result);
   }
 
   private List<Shape> getSchemas() {
@@ -8,6 +8,7 @@ package org.mule.amf.impl.model;
 
 import amf.apicontract.client.platform.AMFConfiguration;
 import amf.apicontract.client.platform.model.domain.EndPoint;
+import org.mule.amf.impl.util.LazyValue;
 import org.mule.apikit.model.Action;
 import org.mule.apikit.model.ActionType;
 import org.mule.apikit.model.Resource;
@@ -18,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 
+import static java.util.Collections.unmodifiableMap;
 import static java.util.stream.Collectors.toMap;
 import static org.mule.apikit.ParserUtils.resolveVersion;
 
@@ -30,13 +32,16 @@ public class ResourceImpl implements Resource {
 
   private AMFImpl amf;
   private EndPoint endPoint;
-  private Map<ActionType, Action> actions;
-  private Map<String, Parameter> resolvedUriParameters;
+  private final LazyValue<Map<ActionType, Action>> actions;
+  private final LazyValue<Map<String, Parameter>> resolvedUriParameters;
 
   ResourceImpl(final AMFImpl amf, final EndPoint endPoint, AMFConfiguration amfConfiguration) {
     this.amf = amf;
     this.endPoint = endPoint;
     this.amfConfiguration = amfConfiguration;
+    this.actions = new LazyValue<>(() -> loadActions(endPoint));
+    this.resolvedUriParameters =
+        new LazyValue<>(() -> loadResolvedUriParameters(endPoint, amfConfiguration, amf.getLocation()));
   }
 
   @Override
@@ -66,18 +71,14 @@ public class ResourceImpl implements Resource {
 
   @Override
   public Map<ActionType, Action> getActions() {
-    if (actions == null) {
-      actions = loadActions(endPoint);
-    }
-
-    return actions;
+    return actions.get();
   }
 
   private Map<ActionType, Action> loadActions(final EndPoint endPoint) {
     final Map<ActionType, Action> map = new LinkedHashMap<>();
     endPoint.operations()
         .forEach(operation -> map.put(getActionKey(operation.method().value()), new ActionImpl(this, operation)));
-    return map;
+    return unmodifiableMap(map);
   }
 
   private static ActionType getActionKey(final String method) {
@@ -97,11 +98,7 @@ public class ResourceImpl implements Resource {
 
   @Override
   public Map<String, Parameter> getResolvedUriParameters() {
-    if (resolvedUriParameters == null) {
-      resolvedUriParameters = loadResolvedUriParameters(endPoint, amfConfiguration);
-    }
-
-    return resolvedUriParameters;
+    return resolvedUriParameters.get();
   }
 
   /**
@@ -110,10 +107,11 @@ public class ResourceImpl implements Resource {
    * @param resource
    * @return
    */
-  private static Map<String, Parameter> loadResolvedUriParameters(final EndPoint resource, AMFConfiguration amfConfiguration) {
-    return resource.parameters().stream()
+  private static Map<String, Parameter> loadResolvedUriParameters(final EndPoint resource, AMFConfiguration amfConfiguration,
+                                                                  String apiLocation) {
+    return unmodifiableMap(resource.parameters().stream()
         .filter(IS_NOT_VERSION)
-        .collect(toMap(p -> p.parameterName().value(), p -> new ParameterImpl(p, amfConfiguration)));
+        .collect(toMap(p -> p.parameterName().value(), p -> new ParameterImpl(p, amfConfiguration, apiLocation))));
   }
 
   @Override
@@ -139,4 +137,12 @@ public class ResourceImpl implements Resource {
   public AMFConfiguration getAmfConfiguration() {
     return amfConfiguration;
   }
+
+  PayloadValidatorRegistry getPayloadValidators() {
+    return amf.getPayloadValidators();
+  }
+
+  String getApiLocation() {
+    return amf.getLocation();
+  }
 }
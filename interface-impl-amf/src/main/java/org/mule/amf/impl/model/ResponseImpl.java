@@ -7,29 +7,54 @@
 package org.mule.amf.impl.model;
 
 import amf.apicontract.client.platform.AMFConfiguration;
+import org.mule.amf.impl.util.LazyValue;
 import org.mule.apikit.model.MimeType;
 import org.mule.apikit.model.Response;
 import org.mule.apikit.model.parameter.Parameter;
 
 import java.util.Map;
 
+import static java.util.Collections.unmodifiableMap;
 import static java.util.stream.Collectors.toMap;
 
 public class ResponseImpl implements Response {
 
   private final AMFConfiguration amfConfiguration;
+  private final PayloadValidatorRegistry payloadValidators;
+  private final String apiLocation;
+  private final LazyValue<Map<String, MimeType>> body;
   amf.apicontract.client.platform.model.domain.Response response;
 
   public ResponseImpl(amf.apicontract.client.platform.model.domain.Response response, AMFConfiguration amfConfiguration) {
+    this(response, amfConfiguration, new PayloadValidatorRegistry(amfConfiguration));
+  }
+
+  public ResponseImpl(amf.apicontract.client.platform.model.domain.Response response, AMFConfiguration amfConfiguration,
+                      PayloadValidatorRegistry payloadValidators) {
+    this(response, amfConfiguration, payloadValidators, null);
+  }
+
+  /**
+   * @param apiLocation location of the api the response belongs to, reported in validation events
+   */
+  public ResponseImpl(amf.apicontract.client.platform.model.domain.Response response, AMFConfiguration amfConfiguration,
+                      PayloadValidatorRegistry payloadValidators, String apiLocation) {
     this.response = response;
     this.amfConfiguration = amfConfiguration;
+    this.payloadValidators = payloadValidators;
+    this.apiLocation = apiLocation;
+    this.body = new LazyValue<>(this::loadBody);
   }
 
   @Override
   public Map<String, MimeType> getBody() {
-    return response.payloads().stream()
+    return body.get();
+  }
+
+  private Map<String, MimeType> loadBody() {
+    return unmodifiableMap(response.payloads().stream()
         .filter(p -> p.mediaType().nonNull())
-        .collect(toMap(p -> p.mediaType().value(), p -> new MimeTypeImpl(p, amfConfiguration)));
+        .collect(toMap(p -> p.mediaType().value(), p -> new MimeTypeImpl(p, amfConfiguration, payloadValidators, apiLocation))));
   }
 
   @Override
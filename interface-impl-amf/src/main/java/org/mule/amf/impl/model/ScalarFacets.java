@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.amf.impl.model;
+
+import amf.core.client.platform.model.IntField;
+
+import static org.mule.amf.impl.model.ScalarType.ScalarTypes.BOOLEAN_ID;
+import static org.mule.amf.impl.model.ScalarType.ScalarTypes.INTEGER_ID;
+import static org.mule.amf.impl.model.ScalarType.ScalarTypes.NUMBER_ID;
+import static org.mule.amf.impl.model.ScalarType.ScalarTypes.STRING_ID;
+
+/**
+ * Facet reading shared by {@link CompiledScalarValidator} and {@link StreamingJsonValidator}.
+ */
+final class ScalarFacets {
+
+  private static final String LONG_ID = "http://www.w3.org/2001/XMLSchema#long";
+
+  enum Kind {
+    STRING, INTEGER, NUMBER, BOOLEAN
+  }
+
+  private ScalarFacets() {}
+
+  /**
+   * @return the kind of values of the given scalar data type, or {@code null} if it is none of the supported ones
+   */
+  static Kind kind(String dataType) {
+    if (STRING_ID.equals(dataType)) {
+      return Kind.STRING;
+    }
+    if (INTEGER_ID.equals(dataType) || LONG_ID.equals(dataType)) {
+      return Kind.INTEGER;
+    }
+    if (NUMBER_ID.equals(dataType)) {
+      return Kind.NUMBER;
+    }
+    if (BOOLEAN_ID.equals(dataType)) {
+      return Kind.BOOLEAN;
+    }
+    return null;
+  }
+
+  static int intOrDefault(IntField field, int defaultValue) {
+    return field.nonNull() ? field.value() : defaultValue;
+  }
+}
@@ -0,0 +1,506 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.amf.impl.model;
+
+import amf.core.client.platform.model.DoubleField;
+import amf.core.client.platform.model.domain.DataNode;
+import amf.core.client.platform.model.domain.PropertyShape;
+import amf.core.client.platform.model.domain.ScalarNode;
+import amf.core.client.platform.model.domain.Shape;
+import amf.shapes.client.platform.model.domain.AnyShape;
+import amf.shapes.client.platform.model.domain.ArrayShape;
+import amf.shapes.client.platform.model.domain.NilShape;
+import amf.shapes.client.platform.model.domain.NodeShape;
+import amf.shapes.client.platform.model.domain.ScalarShape;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import org.mule.amf.impl.model.ScalarFacets.Kind;
+import org.mule.apikit.validation.ApiValidationResult;
+import org.mule.apikit.validation.ExceptionApiValidationResult;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static java.lang.String.format;
+import static org.apache.commons.collections4.CollectionUtils.isEmpty;
+import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
+import static org.mule.amf.impl.model.ScalarFacets.intOrDefault;
+import static org.mule.amf.impl.model.ScalarFacets.kind;
+import static org.mule.amf.impl.model.ScalarType.ScalarTypes.STRING_ID;
+
+/**
+ * Validates JSON payloads while they are read, without building the whole document.
+ * <p>
+ * Only a subset of shapes is supported: objects with plain properties, arrays without unique items, scalars with their usual
+ * facets, nil and any. Payloads of other shapes are validated by AMF. Messages follow the ones of the AMF JSON validator but are
+ * not guaranteed to be the same. Besides the current string token, memory doesn't grow with the payload.
+ */
+final class StreamingJsonValidator {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private final Node root;
+
+  private StreamingJsonValidator(Node root) {
+    this.root = root;
+  }
+
+  /**
+   * @return a validator for the given shape or {@code null} if the shape uses anything this class doesn't support
+   */
+  static StreamingJsonValidator forShape(Shape shape) {
+    try {
+      Node root = compile(shape, new HashSet<>());
+      return root != null ? new StreamingJsonValidator(root) : null;
+    } catch (RuntimeException e) {
+      // facets we don't understand, AMF will deal with them
+      return null;
+    }
+  }
+
+  List<ApiValidationResult> validate(Reader payload, boolean failFast) {
+    Context context = new Context(failFast);
+    try (JsonParser parser = JSON_FACTORY.createParser(payload)) {
+      parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+      if (parser.nextToken() == null) {
+        context.error(parser, null, "expected a JSON value, found an empty payload");
+      } else {
+        root.validate(parser, null, context);
+        if (parser.nextToken() != null) {
+          context.error(parser, null, "unexpected content after the JSON value");
+        }
+      }
+    } catch (Stop e) {
+      // first error found in fail fast mode
+    } catch (JsonProcessingException e) {
+      context.errors.add(new PayloadValidationResult(e.getOriginalMessage(), "",
+                                                     e.getLocation() != null ? e.getLocation().getLineNr() : -1));
+    } catch (IOException e) {
+      context.errors.add(new ExceptionApiValidationResult(e));
+    }
+    return context.errors;
+  }
+
+  private static Node compile(Shape shape, Set<String> inProgress) {
+    if (shape == null || (shape.id() != null && !inProgress.add(shape.id()))) {
+      // recursive shapes are left to AMF
+      return null;
+    }
+    try {
+      if (shape instanceof AnyShape && hasUnsupportedFacets((AnyShape) shape)) {
+        return null;
+      }
+      if (shape instanceof NodeShape) {
+        return compileObject((NodeShape) shape, inProgress);
+      }
+      if (shape instanceof ArrayShape) {
+        return compileArray((ArrayShape) shape, inProgress);
+      }
+      if (shape instanceof ScalarShape) {
+        return compileScalar((ScalarShape) shape);
+      }
+      if (shape instanceof NilShape) {
+        return NullNode.INSTANCE;
+      }
+      if (shape.getClass() == AnyShape.class) {
+        return AnyNode.INSTANCE;
+      }
+      return null;
+    } finally {
+      if (shape.id() != null) {
+        inProgress.remove(shape.id());
+      }
+    }
+  }
+
+  private static boolean hasUnsupportedFacets(AnyShape shape) {
+    return isNotEmpty(shape.or()) || isNotEmpty(shape.and()) || isNotEmpty(shape.xone()) || shape.not() != null
+        || (isNotEmpty(shape.values()) && !(shape instanceof ScalarShape));
+  }
+
+  private static Node compileObject(NodeShape shape, Set<String> inProgress) {
+    if (!shape.minProperties().isNull() || !shape.maxProperties().isNull() || !shape.discriminator().isNullOrEmpty()
+        || !isEmpty(shape.dependencies()) || shape.propertyNames() != null || shape.additionalPropertiesSchema() != null) {
+      return null;
+    }
+    Map<String, Node> properties = new HashMap<>();
+    List<String> required = new ArrayList<>();
+    for (PropertyShape property : shape.properties()) {
+      String name = property.name().value();
+      if (!property.patternName().isNullOrEmpty() || name == null) {
+        return null;
+      }
+      Node node = compile(property.range(), inProgress);
+      if (node == null) {
+        return null;
+      }
+      properties.put(name, node);
+      if (property.minCount().nonNull() && property.minCount().value() > 0) {
+        required.add(name);
+      }
+    }
+    boolean closed = shape.closed().nonNull() && shape.closed().value();
+    return new ObjectNode(properties, required, closed);
+  }
+
+  private static Node compileArray(ArrayShape shape, Set<String> inProgress) {
+    if (shape.uniqueItems().nonNull() && shape.uniqueItems().value()) {
+      return null;
+    }
+    Node items = shape.items() != null ? compile(shape.items(), inProgress) : AnyNode.INSTANCE;
+    if (items == null) {
+      return null;
+    }
+    return new ArrayNode(items, intOrDefault(shape.minItems(), -1), intOrDefault(shape.maxItems(), -1));
+  }
+
+  private static Node compileScalar(ScalarShape shape) {
+    Kind kind = kind(shape.dataType().value());
+    if (kind == null || !shape.multipleOf().isNull()) {
+      return null;
+    }
+
+    BigDecimal lowest = null;
+    BigDecimal highest = null;
+    String format = shape.format().value();
+    if (format != null && !format.isEmpty()) {
+      if (kind != Kind.INTEGER || !("int32".equals(format) || "int64".equals(format))) {
+        return null;
+      }
+      boolean int32 = "int32".equals(format);
+      lowest = BigDecimal.valueOf(int32 ? Integer.MIN_VALUE : Long.MIN_VALUE);
+      highest = BigDecimal.valueOf(int32 ? Integer.MAX_VALUE : Long.MAX_VALUE);
+    }
+
+    Set<String> enumValues = null;
+    if (isNotEmpty(shape.values())) {
+      if (kind != Kind.STRING) {
+        return null;
+      }
+      enumValues = new HashSet<>();
+      for (DataNode value : shape.values()) {
+        if (!(value instanceof ScalarNode) || !STRING_ID.equals(((ScalarNode) value).dataType().value())) {
+          return null;
+        }
+        enumValues.add(((ScalarNode) value).value().value());
+      }
+    }
+
+    String pattern = shape.pattern().value();
+    return new ScalarValueNode(kind, enumValues,
+                               pattern != null && !pattern.isEmpty() ? Pattern.compile(pattern) : null,
+                               intOrDefault(shape.minLength(), -1), intOrDefault(shape.maxLength(), -1),
+                               decimalOrNull(shape.minimum()), shape.exclusiveMinimum().nonNull()
+                                   && shape.exclusiveMinimum().value(),
+                               decimalOrNull(shape.maximum()), shape.exclusiveMaximum().nonNull()
+                                   && shape.exclusiveMaximum().value(),
+                               lowest, highest);
+  }
+
+  private static BigDecimal decimalOrNull(DoubleField field) {
+    return field.nonNull() ? BigDecimal.valueOf(field.value()) : null;
+  }
+
+  private static String typeOf(JsonToken token) {
+    switch (token) {
+      case START_OBJECT:
+        return "JSONObject";
+      case START_ARRAY:
+        return "JSONArray";
+      case VALUE_STRING:
+        return "String";
+      case VALUE_NUMBER_INT:
+        return "Integer";
+      case VALUE_NUMBER_FLOAT:
+        return "Number";
+      case VALUE_TRUE:
+      case VALUE_FALSE:
+        return "Boolean";
+      case VALUE_NULL:
+        return "Null";
+      default:
+        return token.name();
+    }
+  }
+
+  /**
+   * Location of a value in the payload, only rendered when an error is found.
+   */
+  private static final class Path {
+
+    private final Path parent;
+    private final String name;
+    private final int index;
+
+    Path(Path parent, String name, int index) {
+      this.parent = parent;
+      this.name = name;
+      this.index = index;
+    }
+
+    static String toPointer(Path path) {
+      if (path == null) {
+        return "";
+      }
+      String segment = path.name != null ? path.name.replace("~", "~0").replace("/", "~1") : String.valueOf(path.index);
+      return toPointer(path.parent) + "/" + segment;
+    }
+  }
+
+  private static final class Stop extends RuntimeException {
+
+    private static final Stop INSTANCE = new Stop();
+
+    private Stop() {
+      super(null, null, false, false);
+    }
+  }
+
+  private static final class Context {
+
+    private final boolean failFast;
+    private final List<ApiValidationResult> errors = new ArrayList<>();
+
+    Context(boolean failFast) {
+      this.failFast = failFast;
+    }
+
+    void error(JsonParser parser, Path path, String message) {
+      errors.add(new PayloadValidationResult(message, Path.toPointer(path), parser.getTokenLocation().getLineNr()));
+      if (failFast) {
+        throw Stop.INSTANCE;
+      }
+    }
+  }
+
+  private abstract static class Node {
+
+    /**
+     * Validates the value starting at the current token of the parser, leaving the parser at its last token.
+     */
+    abstract void validate(JsonParser parser, Path path, Context context) throws IOException;
+
+    void typeError(JsonParser parser, Path path, Context context, String expected) throws IOException {
+      context.error(parser, path, format("expected type: %s, found: %s", expected, typeOf(parser.currentToken())));
+      parser.skipChildren();
+    }
+  }
+
+  private static final class AnyNode extends Node {
+
+    private static final AnyNode INSTANCE = new AnyNode();
+
+    @Override
+    void validate(JsonParser parser, Path path, Context context) throws IOException {
+      parser.skipChildren();
+    }
+  }
+
+  private static final class NullNode extends Node {
+
+    private static final NullNode INSTANCE = new NullNode();
+
+    @Override
+    void validate(JsonParser parser, Path path, Context context) throws IOException {
+      if (parser.currentToken() != JsonToken.VALUE_NULL) {
+        typeError(parser, path, context, "Null");
+      }
+    }
+  }
+
+  private static final class ObjectNode extends Node {
+
+    private final Map<String, Node> properties;
+    private final Map<String, Integer> required = new LinkedHashMap<>();
+    private final boolean closed;
+
+    ObjectNode(Map<String, Node> properties, List<String> required, boolean closed) {
+      this.properties = properties;
+      this.closed = closed;
+      for (String name : required) {
+        this.required.putIfAbsent(name, this.required.size());
+      }
+    }
+
+    @Override
+    void validate(JsonParser parser, Path path, Context context) throws IOException {
+      if (parser.currentToken() != JsonToken.START_OBJECT) {
+        typeError(parser, path, context, "JSONObject");
+        return;
+      }
+      boolean[] found = new boolean[required.size()];
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String name = parser.getCurrentName();
+        parser.nextToken();
+        Node property = properties.get(name);
+        if (property != null) {
+          Integer index = required.get(name);
+          if (index != null) {
+            found[index] = true;
+          }
+          property.validate(parser, new Path(path, name, -1), context);
+        } else {
+          if (closed) {
+            context.error(parser, path, format("extraneous key [%s] is not permitted", name));
+          }
+          parser.skipChildren();
+        }
+      }
+      for (Map.Entry<String, Integer> entry : required.entrySet()) {
+        if (!found[entry.getValue()]) {
+          context.error(parser, path, format("required key [%s] not found", entry.getKey()));
+        }
+      }
+    }
+  }
+
+  private static final class ArrayNode extends Node {
+
+    private final Node items;
+    private final int minItems;
+    private final int maxItems;
+
+    ArrayNode(Node items, int minItems, int maxItems) {
+      this.items = items;
+      this.minItems = minItems;
+      this.maxItems = maxItems;
+    }
+
+    @Override
+    void validate(JsonParser parser, Path path, Context context) throws IOException {
+      if (parser.currentToken() != JsonToken.START_ARRAY) {
+        typeError(parser, path, context, "JSONArray");
+        return;
+      }
+      int count = 0;
+      while (parser.nextToken() != JsonToken.END_ARRAY) {
+        items.validate(parser, new Path(path, null, count), context);
+        count++;
+      }
+      if (minItems >= 0 && count < minItems) {
+        context.error(parser, path, format("expected minimum item count: %d, found: %d", minItems, count));
+      }
+      if (maxItems >= 0 && count > maxItems) {
+        context.error(parser, path, format("expected maximum item count: %d, found: %d", maxItems, count));
+      }
+    }
+  }
+
+  private static final class ScalarValueNode extends Node {
+
+    private final Kind kind;
+    private final Set<String> enumValues;
+    private final Pattern pattern;
+    private final int minLength;
+    private final int maxLength;
+    private final BigDecimal minimum;
+    private final boolean exclusiveMinimum;
+    private final BigDecimal maximum;
+    private final boolean exclusiveMaximum;
+    // range of the integer format
+    private final BigDecimal lowest;
+    private final BigDecimal highest;
+
+    ScalarValueNode(Kind kind, Set<String> enumValues, Pattern pattern, int minLength, int maxLength, BigDecimal minimum,
+                    boolean exclusiveMinimum, BigDecimal maximum, boolean exclusiveMaximum, BigDecimal lowest,
+                    BigDecimal highest) {
+      this.kind = kind;
+      this.enumValues = enumValues;
+      this.pattern = pattern;
+      this.minLength = minLength;
+      this.maxLength = maxLength;
+      this.minimum = minimum;
+      this.exclusiveMinimum = exclusiveMinimum;
+      this.maximum = maximum;
+      this.exclusiveMaximum = exclusiveMaximum;
+      this.lowest = lowest;
+      this.highest = highest;
+    }
+
+    @Override
+    void validate(JsonParser parser, Path path, Context context) throws IOException {
+      JsonToken token = parser.currentToken();
+      switch (kind) {
+        case STRING:
+          if (token != JsonToken.VALUE_STRING) {
+            typeError(parser, path, context, "String");
+          } else {
+            validateString(parser, path, context, parser.getText());
+          }
+          break;
+        case BOOLEAN:
+          if (token != JsonToken.VALUE_TRUE && token != JsonToken.VALUE_FALSE) {
+            typeError(parser, path, context, "Boolean");
+          }
+          break;
+        case INTEGER:
+          // a fraction or an exponent makes it a number, even 1.0 or 1e2
+          if (token != JsonToken.VALUE_NUMBER_INT) {
+            typeError(parser, path, context, "Integer");
+          } else {
+            validateNumber(parser, path, context, parser.getDecimalValue());
+          }
+          break;
+        default:
+          if (token != JsonToken.VALUE_NUMBER_INT && token != JsonToken.VALUE_NUMBER_FLOAT) {
+            typeError(parser, path, context, "Number");
+          } else {
+            validateNumber(parser, path, context, parser.getDecimalValue());
+          }
+      }
+    }
+
+    private void validateString(JsonParser parser, Path path, Context context, String value) {
+      if (enumValues != null && !enumValues.contains(value)) {
+        context.error(parser, path, format("%s is not a valid enum value", value));
+      }
+      if (minLength >= 0 || maxLength >= 0) {
+        int length = value.codePointCount(0, value.length());
+        if (minLength >= 0 && length < minLength) {
+          context.error(parser, path, format("expected minLength: %d, actual: %d", minLength, length));
+        }
+        if (maxLength >= 0 && length > maxLength) {
+          context.error(parser, path, format("expected maxLength: %d, actual: %d", maxLength, length));
+        }
+      }
+      if (pattern != null && !pattern.matcher(value).find()) {
+        context.error(parser, path, format("string [%s] does not match pattern %s", value, pattern.pattern()));
+      }
+    }
+
+    private void validateNumber(JsonParser parser, Path path, Context context, BigDecimal value) {
+      if (lowest != null && (value.compareTo(lowest) < 0 || value.compareTo(highest) > 0)) {
+        context.error(parser, path, format("%s is out of the range of the format", value));
+      }
+      if (minimum != null) {
+        int comparison = value.compareTo(minimum);
+        if (comparison < 0 || (exclusiveMinimum && comparison == 0)) {
+          context.error(parser, path, format(exclusiveMinimum ? "%s is not greater than %s" : "%s is not greater or equal to %s",
+                                             value, minimum));
+        }
+      }
+      if (maximum != null) {
+        int comparison = value.compareTo(maximum);
+        if (comparison > 0 || (exclusiveMaximum && comparison == 0)) {
+          context.error(parser, path, format(exclusiveMaximum ? "%s is not less than %s" : "%s is not less or equal to %s",
+                                             value, maximum));
+        }
+      }
+    }
+  }
+}
@@ -10,16 +10,19 @@ import amf.apicontract.client.platform.AMFBaseUnitClient;
 import amf.apicontract.client.platform.AMFConfiguration;
 import amf.apicontract.client.platform.APIConfiguration;
 import amf.core.client.common.transform.PipelineId;
-import amf.core.client.platform.AMFParseResult;
 import amf.core.client.platform.execution.ExecutionEnvironment;
 import amf.core.client.platform.model.document.BaseUnit;
 import amf.core.client.platform.model.document.Document;
+import amf.core.client.platform.resource.ResourceLoader;
 import amf.core.client.platform.validation.AMFValidationReport;
 import amf.core.client.platform.validation.AMFValidationResult;
 import amf.core.internal.remote.Spec;
 import org.mule.amf.impl.exceptions.ParserException;
 import org.mule.amf.impl.loader.ExchangeDependencyResourceLoader;
+import org.mule.amf.impl.loader.MeteredResourceLoader;
 import org.mule.amf.impl.loader.ProvidedResourceLoader;
+import org.mule.amf.impl.loader.RootContentResourceLoader;
+import org.mule.apikit.metrics.ParseMetrics;
 import org.mule.apikit.model.api.ApiReference;
 
 import java.io.File;
@@ -27,63 +30,186 @@ import java.net.URI;
 import java.net.URLDecoder;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+import static org.mule.apikit.metrics.ParsePhase.PARSE;
+import static org.mule.apikit.metrics.ParsePhase.TRANSFORM;
+import static org.mule.apikit.metrics.ParsePhase.VALIDATION;
 
 public class AMFParserWrapper {
 
+  private static final String GRAPH_MEDIA_TYPE = "application/ld+json";
+
   private final ApiReference apiRef;
   private final ExecutionEnvironment executionEnvironment;
+  private final ParsedUnitCache unitCache;
+  private final ParseMetrics metrics;
   private AMFBaseUnitClient client;
   private List<AMFValidationResult> parsingIssues;
   private AMFConfiguration amfConfiguration;
   private Spec spec;
 
   public AMFParserWrapper(ApiReference apiRef, ExecutionEnvironment execEnv) {
+    this(apiRef, execEnv, null);
+  }
+
+  /**
+   * @param unitCache units referenced by the api are taken from, and recorded in, this cache. May be {@code null}.
+   */
+  public AMFParserWrapper(ApiReference apiRef, ExecutionEnvironment execEnv, ParsedUnitCache unitCache) {
+    this(apiRef, execEnv, unitCache, ParseMetrics.disabled());
+  }
+
+  /**
+   * @param unitCache units referenced by the api are taken from, and recorded in, this cache. May be {@code null}.
+   * @param metrics where the time spent loading resources, parsing, transforming and validating the api is recorded
+   */
+  public AMFParserWrapper(ApiReference apiRef, ExecutionEnvironment execEnv, ParsedUnitCache unitCache,
+                          ParseMetrics metrics) {
     this.apiRef = apiRef;
     this.executionEnvironment = execEnv;
+    this.unitCache = unitCache;
+    this.metrics = metrics;
     this.amfConfiguration = APIConfiguration
         .API()
         .withExecutionEnvironment(execEnv);
 
     if (apiRef.getResourceLoader().isPresent()) {
-      this.amfConfiguration = amfConfiguration.withResourceLoader(new ProvidedResourceLoader(apiRef.getResourceLoader().get()));
+      this.amfConfiguration =
+          amfConfiguration.withResourceLoader(metered(new ProvidedResourceLoader(apiRef.getResourceLoader().get())));
     }
     URI apiUri = apiRef.getPathAsUri();
 
     if (apiUri.getScheme() != null && apiUri.getScheme().startsWith("file")) {
       final File file = new File(apiUri);
       final String rootDir = file.isDirectory() ? file.getPath() : file.getParent();
-      this.amfConfiguration = amfConfiguration.withResourceLoader(new ExchangeDependencyResourceLoader(rootDir, execEnv));
+      this.amfConfiguration =
+          amfConfiguration.withResourceLoader(metered(new ExchangeDependencyResourceLoader(rootDir, execEnv)));
+    }
+    if (apiRef.getContent().isPresent()) {
+      // added last so it is asked first, the root document is not read again
+      this.amfConfiguration =
+          amfConfiguration.withResourceLoader(metered(new RootContentResourceLoader(apiRef, getRootLocation())));
     }
+    if (unitCache != null) {
+      this.amfConfiguration = amfConfiguration.withUnitCache(unitCache);
+    }
+  }
+
+  private String getRootLocation() {
+    return URLDecoder.decode(apiRef.getPathAsUri().toString());
+  }
+
+  private ResourceLoader metered(ResourceLoader loader) {
+    return metrics.isEnabled() ? new MeteredResourceLoader(loader, metrics) : loader;
   }
 
   public Document parseApi() throws ParserException {
-    AMFParseResult amfParseResult = handleFuture(amfConfiguration.baseUnitClient()
-        .parse(URLDecoder.decode(apiRef.getPathAsUri().toString())));
-    this.parsingIssues = amfParseResult.results();
-    BaseUnit model = amfParseResult.baseUnit();
-    this.spec = amfParseResult.sourceSpec();
-    this.amfConfiguration = APIConfiguration.fromSpec(spec).withExecutionEnvironment(executionEnvironment);
-    this.client = this.amfConfiguration.baseUnitClient();
-    return (Document) client.transform(model, PipelineId.Editing()).baseUnit();
+    return resolve(parseUnit());
+  }
+
+  /**
+   * Parses the api without running any transformation pipeline, enough to inspect its references.
+   */
+  public BaseUnit parseUnit() throws ParserException {
+    return handleFuture(parseUnitAsync());
+  }
+
+  /**
+   * Same as {@link #parseUnit()} but without blocking the calling thread. The returned future fails with a
+   * {@link ParserException} if AMF cannot parse the api.
+   */
+  public CompletableFuture<BaseUnit> parseUnitAsync() {
+    ParseMetrics.Timer timer = metrics.start(PARSE);
+    return amfConfiguration.baseUnitClient()
+        .parse(getRootLocation())
+        .handle((amfParseResult, e) -> {
+          timer.stop();
+          if (e != null) {
+            throw getParseException(e);
+          }
+          if (unitCache != null) {
+            // before the unit is transformed
+            unitCache.record(amfParseResult.baseUnit());
+          }
+          this.parsingIssues = amfParseResult.results();
+          this.spec = amfParseResult.sourceSpec();
+          this.amfConfiguration = APIConfiguration.fromSpec(spec).withExecutionEnvironment(executionEnvironment);
+          this.client = this.amfConfiguration.baseUnitClient();
+          return amfParseResult.baseUnit();
+        });
+  }
+
+  /**
+   * Loads a resolved document rendered as an AMF graph (JSON-LD) without reading the api again. The document is not transformed
+   * any further, and from then on this wrapper behaves as if it had parsed an api written in the given spec.
+   */
+  public CompletableFuture<Document> parseGraphAsync(String graph, Spec sourceSpec) {
+    AMFConfiguration configuration = APIConfiguration.fromSpec(sourceSpec).withExecutionEnvironment(executionEnvironment);
+    return configuration.baseUnitClient()
+        .parseContent(graph, GRAPH_MEDIA_TYPE)
+        .handle((amfParseResult, e) -> {
+          if (e != null) {
+            throw getParseException(e);
+          }
+          if (!(amfParseResult.baseUnit() instanceof Document)) {
+            throw new ParserException("The graph doesn't contain a document");
+          }
+          this.parsingIssues = amfParseResult.results();
+          this.spec = sourceSpec;
+          this.amfConfiguration = configuration;
+          this.client = configuration.baseUnitClient();
+          return (Document) amfParseResult.baseUnit();
+        });
+  }
+
+  public Document resolve(BaseUnit model) {
+    ParseMetrics.Timer timer = metrics.start(TRANSFORM);
+    try {
+      return (Document) client.transform(model, PipelineId.Editing()).baseUnit();
+    } finally {
+      timer.stop();
+    }
   }
 
   public AMFValidationReport getParsingReport(Document resolvedDoc) throws ParserException {
-    return handleFuture(client.validate(resolvedDoc));
+    return handleFuture(getParsingReportAsync(resolvedDoc));
   }
 
-  private <T, U> U handleFuture(CompletableFuture<T> f) throws ParserException {
+  public CompletableFuture<AMFValidationReport> getParsingReportAsync(Document resolvedDoc) {
+    ParseMetrics.Timer timer = metrics.start(VALIDATION);
+    return client.validate(resolvedDoc).handle((report, e) -> {
+      timer.stop();
+      if (e != null) {
+        throw getParseException(e);
+      }
+      return report;
+    });
+  }
+
+  /**
+   * Waits for the given future, rethrowing its failure as a {@link ParserException}.
+   */
+  public static <T> T handleFuture(CompletableFuture<T> f) throws ParserException {
     try {
-      return (U) f.get();
+      return f.get();
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
       throw getParseException(e);
+    } catch (ExecutionException e) {
+      throw getParseException(e.getCause());
     } catch (Exception e) {
       throw getParseException(e);
     }
   }
 
-  private static ParserException getParseException(Exception e) {
-    throw new ParserException("An error happened while parsing the api. Message: " + e.getMessage(), e);
+  private static ParserException getParseException(Throwable e) {
+    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    if (cause instanceof ParserException) {
+      return (ParserException) cause;
+    }
+    return new ParserException("An error happened while parsing the api. Message: " + cause, cause);
   }
 
   public AMFConfiguration getAMFConfiguration() {
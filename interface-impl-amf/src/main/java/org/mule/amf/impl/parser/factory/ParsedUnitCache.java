@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.amf.impl.parser.factory;
+
+import amf.core.client.platform.model.document.BaseUnit;
+import amf.core.client.platform.reference.CachedReference;
+import amf.core.client.platform.reference.UnitCache;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link UnitCache} keeping the units referenced by the apis parsed with it, together with the graph of which unit references
+ * which, so that when a document changes only the units depending on it are parsed again.
+ * <p>
+ * Units are copied when they are stored and when they are served, as AMF transforms the units of a parsed api in place.
+ */
+public class ParsedUnitCache implements UnitCache {
+
+  private final Map<String, CachedUnit> units = new HashMap<>();
+  private final Map<String, Set<String>> dependents = new HashMap<>();
+
+  @Override
+  public synchronized CompletableFuture<CachedReference> fetch(String url) {
+    CachedUnit cached = units.get(key(url));
+    if (cached == null) {
+      CompletableFuture<CachedReference> missing = new CompletableFuture<>();
+      missing.completeExceptionally(new IllegalStateException("Unit not cached: " + url));
+      return missing;
+    }
+    return CompletableFuture.completedFuture(new CachedReference(url, cached.unit.cloneUnit()));
+  }
+
+  /**
+   * Stores every unit referenced, directly or not, by the given root unit. The root unit itself is not stored, as it is always
+   * parsed again.
+   */
+  public synchronized void record(BaseUnit root) {
+    record(root, key(root.location()), new HashSet<>());
+  }
+
+  private void record(BaseUnit unit, String unitKey, Set<String> visited) {
+    if (!visited.add(unitKey)) {
+      return;
+    }
+    List<BaseUnit> references = unit.references();
+    for (BaseUnit reference : references) {
+      String referenceKey = key(reference.location());
+      dependents.computeIfAbsent(referenceKey, k -> new HashSet<>()).add(unitKey);
+      if (!units.containsKey(referenceKey)) {
+        units.put(referenceKey, new CachedUnit(reference.cloneUnit(), lastModified(referenceKey)));
+      }
+      record(reference, referenceKey, visited);
+    }
+  }
+
+  /**
+   * Drops the unit of the given document and, transitively, every unit referencing it.
+   *
+   * @param location location of the changed document, either a path or an url
+   * @return the keys of the dropped units
+   */
+  public synchronized Set<String> invalidate(String location) {
+    Set<String> invalidated = new LinkedHashSet<>();
+    Deque<String> pending = new ArrayDeque<>();
+    pending.add(key(location));
+    while (!pending.isEmpty()) {
+      String current = pending.poll();
+      if (invalidated.add(current)) {
+        units.remove(current);
+        pending.addAll(dependents.getOrDefault(current, Collections.emptySet()));
+      }
+    }
+    return invalidated;
+  }
+
+  /**
+   * Drops the units of every local file modified since it was stored, along with the units referencing them.
+   *
+   * @return the keys of the dropped units
+   */
+  public synchronized Set<String> invalidateModified() {
+    Set<String> modified = new HashSet<>();
+    units.forEach((unitKey, cached) -> {
+      if (cached.lastModified != lastModified(unitKey)) {
+        modified.add(unitKey);
+      }
+    });
+    Set<String> invalidated = new LinkedHashSet<>();
+    modified.forEach(unitKey -> invalidated.addAll(invalidate(unitKey)));
+    return invalidated;
+  }
+
+  public synchronized void invalidateAll() {
+    units.clear();
+    dependents.clear();
+  }
+
+  /**
+   * @return the keys of the units that reference, directly or not, the given document
+   */
+  public synchronized Set<String> getDependents(String location) {
+    Set<String> result = new LinkedHashSet<>();
+    Deque<String> pending = new ArrayDeque<>(dependents.getOrDefault(key(location), Collections.emptySet()));
+    while (!pending.isEmpty()) {
+      String current = pending.poll();
+      if (result.add(current)) {
+        pending.addAll(dependents.getOrDefault(current, Collections.emptySet()));
+      }
+    }
+    return result;
+  }
+
+  public synchronized int size() {
+    return units.size();
+  }
+
+  /**
+   * Local files are keyed by their normalized path, so that {@code file:/a}, {@code file:///a} and {@code /a} are the same unit.
+   */
+  static String key(String location) {
+    if (location == null) {
+      return "";
+    }
+    try {
+      if (location.startsWith("file:")) {
+        return Paths.get(URI.create(location)).normalize().toString();
+      }
+      if (!location.contains(":/")) {
+        return new File(location).toPath().toAbsolutePath().normalize().toString();
+      }
+    } catch (RuntimeException e) {
+      // not a path, used as is
+    }
+    return location;
+  }
+
+  private static long lastModified(String key) {
+    File file = new File(key);
+    return file.isAbsolute() ? file.lastModified() : 0L;
+  }
+
+  private static final class CachedUnit {
+
+    private final BaseUnit unit;
+    private final long lastModified;
+
+    CachedUnit(BaseUnit unit, long lastModified) {
+      this.unit = unit;
+      this.lastModified = lastModified;
+    }
+  }
+}
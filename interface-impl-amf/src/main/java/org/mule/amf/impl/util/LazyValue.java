@@ -59,4 +59,11 @@ public class LazyValue<T> implements Supplier<T> {
 
     return value;
   }
+
+  /**
+   * @return whether the value has already been computed
+   */
+  public boolean isComputed() {
+    return initialized;
+  }
 }
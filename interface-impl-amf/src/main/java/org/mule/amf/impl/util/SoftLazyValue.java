@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.amf.impl.util;
+
+import java.lang.ref.SoftReference;
+import java.util.function.Supplier;
+
+import static org.apache.commons.lang3.Validate.notNull;
+
+/**
+ * Provides a value which is lazily computed and only softly referenced once computed.
+ * <p>
+ * Unlike {@link LazyValue}, the garbage collector may reclaim the value when memory is low, in which case it is computed again on
+ * the next invokation of {@link #get()}. The supplier must therefore be able to provide an equivalent value more than once.
+ * <p>
+ * This class is thread-safe. When invoking {@link #get()}, it is guaranteed that the supplier is never invoked concurrently.
+ *
+ * @param <T> the generic type of the provided value
+ */
+public class SoftLazyValue<T> implements Supplier<T> {
+
+  private final Supplier<T> valueSupplier;
+  private volatile SoftReference<T> reference;
+
+  /**
+   * @param supplier A {@link Supplier} through which the value is obtained, each time it needs to be computed
+   */
+  public SoftLazyValue(Supplier<T> supplier) {
+    notNull(supplier, "supplier cannot be null");
+    valueSupplier = supplier;
+  }
+
+  @Override
+  public T get() {
+    T value = dereference();
+    if (value == null) {
+      synchronized (this) {
+        value = dereference();
+        if (value == null) {
+          value = valueSupplier.get();
+          reference = new SoftReference<>(value);
+        }
+      }
+    }
+
+    return value;
+  }
+
+  /**
+   * Drops the computed value, if any, so it is computed again on the next invokation of {@link #get()}.
+   */
+  public void clear() {
+    reference = null;
+  }
+
+  /**
+   * @return whether the value is computed and has not been reclaimed since
+   */
+  public boolean isComputed() {
+    return dereference() != null;
+  }
+
+  private T dereference() {
+    SoftReference<T> current = reference;
+    return current != null ? current.get() : null;
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.amf.impl;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mule.apikit.model.ApiSpecification;
+import org.mule.apikit.model.MimeType;
+import org.mule.apikit.model.api.ApiReference;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Set;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class AMFParseSessionTestCase {
+
+  private static final String PERSON = "{\"name\": \"John\"}";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private File api;
+  private File person;
+  private AMFParseSession session;
+
+  @Before
+  public void setUp() throws IOException {
+    api = write("api.raml", "#%RAML 1.0\n"
+        + "title: Session\n"
+        + "uses:\n"
+        + "  common: libs/common.raml\n"
+        + "types:\n"
+        + "  Person: !include types/person.raml\n"
+        + "/people:\n"
+        + "  post:\n"
+        + "    body:\n"
+        + "      application/json:\n"
+        + "        type: Person\n"
+        + "/items:\n"
+        + "  post:\n"
+        + "    body:\n"
+        + "      application/json:\n"
+        + "        type: common.Item\n");
+    person = write("types/person.raml", "#%RAML 1.0 DataType\n"
+        + "type: object\n"
+        + "properties:\n"
+        + "  name: string\n");
+    write("libs/common.raml", "#%RAML 1.0 Library\n"
+        + "types:\n"
+        + "  Item:\n"
+        + "    type: object\n"
+        + "    properties:\n"
+        + "      id: integer\n");
+    session = new AMFParseSession(ApiReference.create(api.getAbsolutePath()), null);
+  }
+
+  @Test
+  public void referencedUnitsAreRecorded() {
+    session.parser().parse();
+
+    assertThat(session.getCachedUnits(), is(2));
+    assertThat(session.getDependents(person.getAbsolutePath()), hasItem(api.getAbsolutePath()));
+  }
+
+  @Test
+  public void onlyChangedUnitsAreParsedAgain() throws IOException {
+    assertThat(personBody(session.parser().parse()).validate(PERSON).isEmpty(), is(true));
+
+    write("types/person.raml", "#%RAML 1.0 DataType\n"
+        + "type: object\n"
+        + "properties:\n"
+        + "  name: string\n"
+        + "  age: integer\n");
+    Set<String> invalidated = session.invalidate(person.getAbsolutePath());
+
+    assertThat(invalidated, hasItem(api.getAbsolutePath()));
+    assertThat(session.getCachedUnits(), is(1));
+    assertThat(personBody(session.parser().parse()).validate(PERSON).isEmpty(), is(false));
+    assertThat(session.getCachedUnits(), is(2));
+  }
+
+  @Test
+  public void modifiedFilesAreInvalidated() {
+    session.parser().parse();
+
+    assertThat(session.invalidateModified().isEmpty(), is(true));
+    person.setLastModified(person.lastModified() + 2000);
+
+    assertThat(session.invalidateModified(), hasItem(person.getAbsolutePath()));
+    assertThat(session.getCachedUnits(), not(is(2)));
+  }
+
+  private static MimeType personBody(ApiSpecification api) {
+    return api.getResource("/people").getAction("POST").getBody().get("application/json");
+  }
+
+  private File write(String path, String content) throws IOException {
+    File file = new File(folder.getRoot(), path);
+    file.getParentFile().mkdirs();
+    Files.write(file.toPath(), content.getBytes(UTF_8));
+    return file;
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.amf.impl.loader;
+
+import amf.core.client.common.remote.Content;
+import amf.core.client.platform.execution.ExecutionEnvironment;
+import amf.core.client.platform.resource.FileResourceLoader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.mule.apikit.common.ContentUtils.MAP_THRESHOLD;
+
+public class ExchangeDependencyResourceLoaderTestCase {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void smallFileIsFetchedAsAMFWould() throws Exception {
+    assertFetchedAsAMFWould(write("small.json", schema(10)));
+  }
+
+  @Test
+  public void largeFileIsFetchedAsAMFWould() throws Exception {
+    File large = write("large.json", schema(20000));
+    assertThat(large.length(), greaterThan((long) MAP_THRESHOLD));
+    assertFetchedAsAMFWould(large);
+  }
+
+  @Test
+  public void largeFileWithUnknownExtensionIsFetchedAsAMFWould() throws Exception {
+    File large = write("large.schema", schema(20000));
+    assertThat(large.length(), greaterThan((long) MAP_THRESHOLD));
+    assertFetchedAsAMFWould(large);
+  }
+
+  private void assertFetchedAsAMFWould(File file) throws Exception {
+    ExecutionEnvironment environment = new ExecutionEnvironment();
+    String path = file.toURI().toString();
+
+    Content expected = new FileResourceLoader(environment).fetch(path).get();
+    Content actual = new ExchangeDependencyResourceLoader(folder.getRoot().getPath(), environment).fetch(path).get();
+
+    assertThat(actual.url(), is(expected.url()));
+    assertThat(actual.mime(), is(expected.mime()));
+    assertThat(actual.stream().toString(), is(expected.stream().toString()));
+  }
+
+  private static String schema(int properties) {
+    StringBuilder schema = new StringBuilder("{\"type\": \"object\", \"properties\": {");
+    for (int i = 0; i < properties; i++) {
+      schema.append(i > 0 ? ", " : "").append("\"property").append(i).append("\": {\"type\": \"string\"}");
+    }
+    return schema.append("}}").toString();
+  }
+
+  private File write(String name, String content) throws IOException {
+    File file = new File(folder.getRoot(), name);
+    Files.write(file.toPath(), content.getBytes(UTF_8));
+    return file;
+  }
+}
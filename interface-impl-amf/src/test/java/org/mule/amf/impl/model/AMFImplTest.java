@@ -6,15 +6,21 @@
  */
 package org.mule.amf.impl.model;
 
+import amf.apicontract.client.platform.model.domain.api.WebApi;
+import amf.core.client.platform.execution.ExecutionEnvironment;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.Assert;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mule.amf.impl.AMFParser;
+import org.mule.amf.impl.parser.factory.AMFParserWrapper;
 import org.mule.apikit.model.Action;
 import org.mule.apikit.model.Resource;
 import org.mule.apikit.model.api.ApiReference;
+import org.mule.apikit.routing.RouteMatch;
 
 import java.io.File;
 import java.io.IOException;
@@ -22,14 +28,23 @@ import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static java.util.Collections.emptyList;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mule.amf.impl.AMFParser.MULE_APIKIT_PARSER_LOW_FOOTPRINT;
 
 public class AMFImplTest {
 
@@ -40,6 +55,9 @@ public class AMFImplTest {
   private static final String LEAGUES_API_BASE_URI = "https://{apiDomain}.ec2.amazonaws.com";
   private static final String LEAGUES_API_VERSION = "v1";
 
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
   private URI apiLocation;
   private AMFImpl api;
 
@@ -202,6 +220,94 @@ public class AMFImplTest {
     assertThatBaseUriIsPresent(api.dumpAmf(), BASE_URI);
   }
 
+  @Test
+  public void routerTest() {
+    RouteMatch match = api.getRouter().match("/leagues/liga-bbva/teams/leader");
+    assertEquals("/leagues/{leagueId}/teams/leader", match.getUriTemplate());
+    assertEquals("liga-bbva", match.getUriParameter("leagueId"));
+    assertEquals(api.getResource(LEAGUES_RESOURCE), api.getRouter().match(LEAGUES_RESOURCE).getResource());
+    assertNull(api.getRouter().match("/leagues/liga-bbva/players"));
+  }
+
+  @Test
+  public void consoleModelIsBuiltWithoutReadingTheApiAgain() throws Exception {
+    Path source = Paths.get(AMFImplTest.class.getResource("../amf-model-render/raml").toURI());
+    File root = folder.newFolder("raml");
+    Files.copy(source.resolve("api-to-render.raml"), root.toPath().resolve("api-to-render.raml"));
+    Files.copy(source.resolve("reused-fragment.raml"), root.toPath().resolve("reused-fragment.raml"));
+    ApiReference apiRef = ApiReference.create(new File(root, "api-to-render.raml").toURI().toString());
+    AMFImpl copiedApi = (AMFImpl) new AMFParser(apiRef, true).parse();
+
+    Files.delete(root.toPath().resolve("reused-fragment.raml"));
+    Files.delete(root.toPath().resolve("api-to-render.raml"));
+
+    assertThat(copiedApi.dumpAmf(), containsString("To test stuff"));
+    copiedApi.updateBaseUri(BASE_URI);
+    assertEquals(BASE_URI, copiedApi.getBaseUri());
+    assertThatBaseUriIsPresent(copiedApi.dumpAmf(), BASE_URI);
+  }
+
+  @Test
+  public void materializedModelIsStableAndImmutable() {
+    assertSame(api, api.materialize());
+
+    Resource leagues = api.getResource(LEAGUES_RESOURCE);
+    Action post = leagues.getAction(ACTION);
+    assertSame(leagues.getActions(), leagues.getActions());
+    assertSame(post.getBody(), post.getBody());
+    assertSame(post.getResponses(), post.getResponses());
+    assertSame(post.getHeaders(), post.getHeaders());
+    assertSame(post.getQueryParameters(), post.getQueryParameters());
+    assertSame(post.getResolvedUriParameters(), post.getResolvedUriParameters());
+    post.getResponses().values().forEach(response -> assertSame(response.getBody(), response.getBody()));
+
+    try {
+      post.getBody().clear();
+      fail("Bodies of a materialized api must not be modifiable");
+    } catch (UnsupportedOperationException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void softConsoleModelGetsTheUpdatedBaseUri() {
+    ApiReference apiRef = ApiReference.create(apiLocation.toString());
+    AMFParserWrapper parser = new AMFParserWrapper(apiRef, new ExecutionEnvironment());
+    WebApi webApi = (WebApi) parser.parseApi().encodes();
+    AtomicInteger builds = new AtomicInteger();
+    AMFImpl softApi = new AMFImpl(webApi, emptyList(), apiRef.getVendor(), apiRef.getLocation(), parser, () -> {
+      builds.incrementAndGet();
+      return parser.parseApi();
+    }, true);
+
+    softApi.updateBaseUri(BASE_URI);
+
+    assertEquals(BASE_URI, softApi.getBaseUri());
+    assertThatBaseUriIsPresent(softApi.dumpAmf(), BASE_URI);
+    assertThatBaseUriIsPresent(softApi.dumpAmf(), BASE_URI);
+    assertEquals(1, builds.get());
+  }
+
+  @Test
+  public void lowFootprintParserReleasesWhatItParsed() {
+    AMFParser parser;
+    System.setProperty(MULE_APIKIT_PARSER_LOW_FOOTPRINT, "true");
+    try {
+      parser = new AMFParser(ApiReference.create(apiLocation.toString()));
+    } finally {
+      System.clearProperty(MULE_APIKIT_PARSER_LOW_FOOTPRINT);
+    }
+    WebApi parsed = parser.getWebApi();
+    AMFImpl lowFootprintApi = (AMFImpl) parser.parse().materialize();
+
+    assertNotSame(parsed, parser.getWebApi());
+    assertEquals(new AMFParser(ApiReference.create(apiLocation.toString())).validate().conforms(), parser.validate().conforms());
+    assertEquals(api.getSpecId(), lowFootprintApi.getSpecId());
+    assertEquals(LEAGUES_API_VERSION, lowFootprintApi.getVersion());
+    assertEquals(2, lowFootprintApi.getAllReferences().size());
+    assertNotNull(lowFootprintApi.dumpAmf());
+  }
+
   private void writeAndAssertBaseUri(String baseUri) throws IOException {
     PipedOutputStream pipedOutputStream = new PipedOutputStream();
     PipedInputStream pipedInputStream = new PipedInputStream(pipedOutputStream);
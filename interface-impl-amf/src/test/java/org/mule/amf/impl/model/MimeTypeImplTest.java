@@ -6,6 +6,8 @@
  */
 package org.mule.amf.impl.model;
 
+import amf.apicontract.client.platform.APIConfiguration;
+import amf.shapes.client.platform.model.domain.ScalarShape;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -15,15 +17,22 @@ import org.mule.apikit.model.MimeType;
 import org.mule.apikit.model.Response;
 import org.mule.apikit.model.api.ApiReference;
 
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
 import java.util.Map;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class MimeTypeImplTest {
 
   private static final String APPLICATION_JSON = "application/json";
+  private static final String XSD_STRING = "http://www.w3.org/2001/XMLSchema#string";
   private static final String TEXT_XML = "text/xml";
   private static final String MULTIPART = "multipart/form-data";
   private static final String XML_EXAMPLE = "<foo/>";
@@ -98,6 +107,66 @@ public class MimeTypeImplTest {
     unionJsonMimeType = (MimeTypeImpl) responses.get(RESPONSE_201_CODE).getBody().get(APPLICATION_JSON);
   }
 
+  @Test
+  public void streamingValidation() throws Exception {
+    String apiLocation = MimeTypeImpl.class.getResource("../leagues/raml10/api.raml").toURI().toString();
+    ApiSpecification api = new AMFParser(ApiReference.create(apiLocation), true).parse();
+    MimeType mimeType = api.getResource(LEAGUES_RESOURCE).getAction(POST_ACTION).getBody().get(APPLICATION_JSON);
+
+    String valid = "{ \"name\": \"liga criolla\", \"id\": \"LC\" }";
+    assertTrue(mimeType.validate(new StringReader(valid)).isEmpty());
+    assertTrue(mimeType.validate(new ByteArrayInputStream(valid.getBytes(UTF_8)), UTF_8).isEmpty());
+
+    String invalid = "{ \"id\": 1 }";
+    assertFalse(mimeType.validate(invalid).isEmpty());
+    assertFalse(mimeType.validate(new StringReader(invalid)).isEmpty());
+    assertEquals(1, mimeType.validate(new StringReader(invalid), true).size());
+    assertFalse(mimeType.validate(new StringReader("{ \"name\": ")).isEmpty());
+  }
+
+  @Test
+  public void streamingValidationMatchesAmf() throws Exception {
+    String apiLocation = MimeTypeImpl.class.getResource("../streaming-validation/api.raml").toURI().toString();
+    ApiSpecification api = new AMFParser(ApiReference.create(apiLocation), true).parse();
+    MimeType mimeType = api.getResource("/scores").getAction(POST_ACTION).getBody().get(APPLICATION_JSON);
+
+    String[] payloads = {"{ \"score\": 1 }", "{ \"score\": -3, \"ratio\": 1.5 }", "{ \"score\": 1, \"ratio\": 1e2 }",
+        "{ \"score\": 1.0 }", "{ \"score\": 1.5 }", "{ \"score\": 1e2 }", "{ \"score\": \"1\" }", "{ \"ratio\": 1 }"};
+    for (String payload : payloads) {
+      assertEquals(payload, mimeType.validate(payload).isEmpty(), mimeType.validate(new StringReader(payload)).isEmpty());
+    }
+    assertFalse(mimeType.validate(new StringReader("{ \"score\": 1.0 }")).isEmpty());
+  }
+
+  @Test
+  public void payloadValidatorsAreSharedByTheApi() throws Exception {
+    String apiLocation = MimeTypeImpl.class.getResource("../leagues/raml10/api.raml").toURI().toString();
+    AMFImpl api = (AMFImpl) new AMFParser(ApiReference.create(apiLocation), true).parse();
+    Response response = api.getResource(LEAGUES_RESOURCE).getAction(GET_ACTION).getResponses().get(RESPONSE_200_CODE);
+
+    // every call to getBody creates new mime types
+    response.getBody().get(APPLICATION_JSON).validate(JSON_OBJECT_EXAMPLE);
+    response.getBody().get(APPLICATION_JSON).validate(JSON_OBJECT_EXAMPLE);
+
+    PayloadValidatorRegistry payloadValidators = api.getPayloadValidators();
+    assertEquals(1, payloadValidators.size());
+    assertEquals(1, payloadValidators.stats().missCount());
+    assertEquals(1, payloadValidators.stats().hitCount());
+  }
+
+  @Test
+  public void shapesWithoutIdAreCachedByIdentity() {
+    PayloadValidatorRegistry payloadValidators = new PayloadValidatorRegistry(APIConfiguration.API());
+    ScalarShape shape = new ScalarShape().withDataType(XSD_STRING);
+    assertNull(shape.id());
+
+    assertSame(payloadValidators.get(shape, APPLICATION_JSON), payloadValidators.get(shape, APPLICATION_JSON));
+    assertEquals(1, payloadValidators.size());
+
+    payloadValidators.get(new ScalarShape().withDataType(XSD_STRING), APPLICATION_JSON);
+    assertEquals(2, payloadValidators.size());
+  }
+
   @Test
   public void getCompiledSchema() {
     assertNull(jsonMimeType.getCompiledSchema());
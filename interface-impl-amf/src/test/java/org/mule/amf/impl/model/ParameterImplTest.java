@@ -33,6 +33,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.mule.apikit.ParserUtils.getArrayAsYamlValue;
 
 @RunWith(Parameterized.class)
 public class ParameterImplTest {
@@ -223,6 +224,30 @@ public class ParameterImplTest {
     assertTrue(nonNullableArray.validateArray(values));
   }
 
+  @Test
+  public void validationWithoutAMFAgreesWithAMF() {
+    List<String> values = asList("123", "0123", "-1", "-0", "1.5", "1e3", "true", "TRUE", "", " 1", "abc", "*abc",
+                                 "\"quoted\"", "1234567890123456789", ISBN);
+    for (String name : asList(RATING_QUERY_PARAM, BORROWED_QUERY_PARAM, PUBLICATION_YEAR_QUERY_PARAM, ISBN_QUERY_PARAM)) {
+      ParameterImpl parameter = (ParameterImpl) queryParams.get(name);
+      for (String value : values) {
+        assertEquals(format("%s: %s", name, value), parameter.validatePayload(value).conforms(), parameter.validate(value));
+      }
+    }
+    for (String name : asList("nonNullableInteger", "nonNullableString")) {
+      ParameterImpl parameter = (ParameterImpl) testNullQueryParams.get(name);
+      for (String value : values) {
+        assertEquals(format("%s: %s", name, value), parameter.validatePayload(value).conforms(), parameter.validate(value));
+      }
+    }
+    ParameterImpl array = (ParameterImpl) testNullQueryParams.get("nonNullableArray");
+    for (String value : values) {
+      List<String> items = asList(value, "x");
+      assertEquals(items.toString(), array.validatePayload(getArrayAsYamlValue(array, items)).conforms(),
+                   array.validateArray(items));
+    }
+  }
+
   @Test
   public void messageTest() {
     assertEquals("expected type: Number, found: String",
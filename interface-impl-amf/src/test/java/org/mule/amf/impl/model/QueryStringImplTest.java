@@ -13,14 +13,21 @@ import org.mule.apikit.model.ApiSpecification;
 import org.mule.apikit.model.QueryString;
 import org.mule.apikit.model.api.ApiReference;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class QueryStringImplTest {
@@ -158,6 +165,17 @@ public class QueryStringImplTest {
     }));
   }
 
+  @Test
+  public void plainObjectFallsBackForUndecidedFacetsTest() {
+    Map<String, Collection<?>> queryParams = new HashMap<>();
+    queryParams.put("nullableString", singletonList(null));
+    queryParams.put("nonNullableString", asList("first", "second"));
+    assertFalse(nullableQueryString.validate(queryParams));
+
+    queryParams.put("nonNullableString", singletonList("value"));
+    assertTrue(nullableQueryString.validate(queryParams));
+  }
+
   @Test
   public void isScalarTest() {
     assertFalse(locationsQueryString.isScalar());
@@ -175,5 +193,27 @@ public class QueryStringImplTest {
   public void facetsTest() {
     assertEquals(5, locationsQueryString.facets().size());
     assertEquals(3, emailQueryString.facets().size());
+    assertSame(locationsQueryString.facets(), locationsQueryString.facets());
+  }
+
+  @Test
+  public void concurrentValidationTest() throws Exception {
+    Map<String, Collection<?>> queryParams = new HashMap<>();
+    queryParams.put("start", singletonList("2"));
+    queryParams.put("lat", singletonList("12"));
+    queryParams.put("long", singletonList("13"));
+
+    ExecutorService executor = newFixedThreadPool(8);
+    try {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int i = 0; i < 64; i++) {
+        results.add(executor.submit(() -> locationsQueryString.validate(queryParams)));
+      }
+      for (Future<Boolean> result : results) {
+        assertTrue(result.get());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
   }
 }
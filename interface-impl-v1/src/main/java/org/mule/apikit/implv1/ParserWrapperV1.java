@@ -6,6 +6,7 @@
  */
 package org.mule.apikit.implv1;
 
+import com.google.common.collect.ImmutableList;
 import org.mule.apikit.ApiParser;
 import org.mule.apikit.implv1.loader.ApiSyncResourceLoader;
 import org.mule.apikit.implv1.loader.ParserV1FileResourceLoader;
@@ -24,11 +25,13 @@ import org.raml.parser.visitor.RamlDocumentBuilder;
 import org.raml.parser.visitor.RamlValidationService;
 
 import java.io.File;
+import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static com.google.common.collect.ImmutableList.builder;
 import static java.util.Collections.emptyList;
@@ -51,10 +54,24 @@ public class ParserWrapperV1 implements ApiParser {
   }
 
   public ParserWrapperV1(String ramlPath, List<ResourceLoader> loaders, List<String> references) {
+    this(ramlPath, loaders, references, null);
+  }
+
+  /**
+   * @param rootContent supplies the content of the root document so it is not read again through the resource loaders, may be
+   *        {@code null}
+   */
+  public ParserWrapperV1(String ramlPath, List<ResourceLoader> loaders, List<String> references,
+                         Supplier<InputStream> rootContent) {
     this.originalPath = ramlPath;
     this.ramlPath = findRamlPath(ramlPath).orElse(ramlPath);
     this.references = references;
-    this.resourceLoader = new CompositeResourceLoader(builder().addAll(loaders)
+    ImmutableList.Builder<ResourceLoader> builder = builder();
+    if (rootContent != null) {
+      String rootPath = this.ramlPath;
+      builder.add(name -> rootPath.equals(name) || ramlPath.equals(name) ? rootContent.get() : null);
+    }
+    this.resourceLoader = new CompositeResourceLoader(builder.addAll(loaders)
         .add(getResourceLoaderForPath(this.ramlPath))
         .build().toArray(new ResourceLoader[0]));
   }
@@ -26,13 +26,14 @@ import java.util.List;
 import java.util.Map;
 
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
 import static org.mule.apikit.implv1.model.ResourceImpl.loadResolvedUriParameters;
 
 public class ActionImpl implements Action {
 
   private org.raml.model.Action action;
-  private Map<String, Parameter> resolvedUriParameters;
-  private String successStatusCode;
+  private volatile Map<String, Parameter> resolvedUriParameters;
+  private volatile String successStatusCode;
 
   public ActionImpl(org.raml.model.Action action) {
     this.action = action;
@@ -83,19 +84,27 @@ public class ActionImpl implements Action {
 
   @Override
   public Map<String, Parameter> getResolvedUriParameters() {
-    if (resolvedUriParameters == null) {
-      resolvedUriParameters = loadResolvedUriParameters(action.getResource());
+    Map<String, Parameter> result = resolvedUriParameters;
+    if (result == null) {
+      result = loadUriParameters();
+      resolvedUriParameters = result;
     }
+    return result;
+  }
+
+  private Map<String, Parameter> loadUriParameters() {
+    Map<String, Parameter> parameters = loadResolvedUriParameters(action.getResource());
     Map<String, List<Parameter>> baseUriParameters = getBaseUriParameters();
     if (MapUtils.isNotEmpty(baseUriParameters)) {
-      if (resolvedUriParameters == null) {
-        resolvedUriParameters = new LinkedHashMap<>();
+      if (parameters == null) {
+        parameters = new LinkedHashMap<>();
       }
       for (Map.Entry<String, List<Parameter>> entry : baseUriParameters.entrySet()) {
-        resolvedUriParameters.put(entry.getKey(), entry.getValue().get(0));
+        parameters.put(entry.getKey(), entry.getValue().get(0));
       }
     }
-    return resolvedUriParameters;
+    // published to concurrent readers once merged
+    return parameters != null ? unmodifiableMap(parameters) : null;
   }
 
   @Override
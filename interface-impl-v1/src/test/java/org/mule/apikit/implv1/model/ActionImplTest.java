@@ -25,6 +25,7 @@ import java.util.Map;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class ActionImplTest {
@@ -90,6 +91,19 @@ public class ActionImplTest {
     assertEquals(2, historyAction.getResolvedUriParameters().size());
   }
 
+  @Test
+  public void resolvedUriParametersAreMergedOnce() {
+    Map<String, Parameter> parameters = teamIdAction.getResolvedUriParameters();
+
+    assertSame(parameters, teamIdAction.getResolvedUriParameters());
+    assertEquals(2, teamIdAction.getResolvedUriParameters().size());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void resolvedUriParametersAreUnmodifiable() {
+    teamIdAction.getResolvedUriParameters().clear();
+  }
+
   @Test
   public void getQueryParametersTest() {
     assertEquals(0, positionsAction.getQueryParameters().size());
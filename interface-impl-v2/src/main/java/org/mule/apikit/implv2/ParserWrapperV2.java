@@ -26,6 +26,7 @@ import org.raml.v2.api.loader.ResourceLoader;
 import org.raml.v2.api.loader.RootRamlFileResourceLoader;
 
 import java.io.File;
+import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Paths;
@@ -52,9 +53,23 @@ public class ParserWrapperV2 implements ApiParser {
   }
 
   public ParserWrapperV2(String ramlPath, List<ResourceLoader> resourceLoader, List<String> references) {
+    this(ramlPath, resourceLoader, references, null);
+  }
+
+  /**
+   * @param rootContent supplies the content of the root document so it is not read again through the resource loaders, may be
+   *        {@code null}
+   */
+  public ParserWrapperV2(String ramlPath, List<ResourceLoader> resourceLoader, List<String> references,
+                         Supplier<InputStream> rootContent) {
     this.ramlPath = fetchRamlResource(ramlPath).map(File::getPath).orElse(ramlPath);
     this.references = references;
-    List<ResourceLoader> loaders = ImmutableList.<ResourceLoader>builder()
+    ImmutableList.Builder<ResourceLoader> builder = ImmutableList.builder();
+    if (rootContent != null) {
+      String rootPath = this.ramlPath;
+      builder.add(name -> rootPath.equals(name) || ramlPath.equals(name) ? rootContent.get() : null);
+    }
+    List<ResourceLoader> loaders = builder
         .add(getResourceLoaderForPath(this.ramlPath))
         .addAll(resourceLoader)
         .build();
@@ -6,22 +6,27 @@
  */
 package org.mule.apikit.implv2.loader;
 
+import com.google.common.base.Supplier;
+import org.mule.apikit.common.ExchangeModulesIndex;
 import org.raml.v2.api.loader.DefaultResourceLoader;
 import org.raml.v2.api.loader.ResourceLoader;
 
 import javax.annotation.Nullable;
 import java.io.File;
 import java.io.InputStream;
-import java.util.regex.Matcher;
+import java.nio.file.Path;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
-import static org.mule.apikit.implv2.utils.ExchangeDependencyUtils.DEPENDENCY_PATH_PATTERN;
+import static com.google.common.base.Suppliers.memoize;
+import static org.mule.apikit.common.ExchangeModulesIndex.getDependencyPath;
 import static org.mule.apikit.implv2.utils.ExchangeDependencyUtils.getExchangeModulePath;
 
 public class ExchangeDependencyResourceLoader implements ResourceLoader {
 
   private final File workingFolder;
   private final ResourceLoader resourceLoader;
+  // built on the first dependency fetched, most apis have none
+  private final Supplier<ExchangeModulesIndex> modules;
 
   public ExchangeDependencyResourceLoader() {
     this(null);
@@ -30,6 +35,7 @@ public class ExchangeDependencyResourceLoader implements ResourceLoader {
   public ExchangeDependencyResourceLoader(File workingFolder) {
     this.resourceLoader = new DefaultResourceLoader();
     this.workingFolder = workingFolder;
+    this.modules = memoize(() -> ExchangeModulesIndex.of(workingFolder.toPath()));
   }
 
   @Nullable
@@ -40,14 +46,12 @@ public class ExchangeDependencyResourceLoader implements ResourceLoader {
     }
 
     if (workingFolder != null) {
-      final String resourceName;
-      final Matcher matcher = DEPENDENCY_PATH_PATTERN.matcher(path);
-      if (matcher.find()) {
-        final int dependencyIndex = path.lastIndexOf(matcher.group(0));
-        resourceName = dependencyIndex <= 0 ? path : path.substring(dependencyIndex);
-      } else {
-        resourceName = path;
+      final String dependencyPath = getDependencyPath(path);
+      final Path dependency = dependencyPath != null ? modules.get().resolve(dependencyPath) : null;
+      if (dependency != null) {
+        return resourceLoader.fetchResource(dependency.toString());
       }
+      final String resourceName = dependencyPath != null ? dependencyPath : path;
       return resourceLoader.fetchResource(new File(workingFolder, resourceName).getPath());
     }
     return resourceLoader.fetchResource(getExchangeModulePath(path));
@@ -6,30 +6,25 @@
  */
 package org.mule.apikit.implv2.utils;
 
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import static org.mule.apikit.common.ExchangeModulesIndex.getDependencyPath;
+
 public class ExchangeDependencyUtils {
 
   public static final Pattern DEPENDENCY_PATH_PATTERN = Pattern.compile("^exchange_modules/|/exchange_modules/");
+  private static final String EXCHANGE_MODULES_FOLDER = "exchange_modules/";
+  private static final String NESTED_EXCHANGE_MODULES_FOLDER = "/" + EXCHANGE_MODULES_FOLDER;
 
   private ExchangeDependencyUtils() {}
 
   public static String getExchangeModulePath(String path) {
-    final Matcher matcher = DEPENDENCY_PATH_PATTERN.matcher(path);
-    if (matcher.find()) {
-      final String matching = matcher.group(0);
-      final int dependencyIndex = path.lastIndexOf(matching);
-
-      if (dependencyIndex <= 0)
-        return path;
-      else {
-        final String rootPath = path.substring(0, path.indexOf(matching));
-        final String exchangeModulePath = path.substring(dependencyIndex);
-        return rootPath + "/" + exchangeModulePath;
-      }
-    } else {
+    final String dependencyPath = getDependencyPath(path);
+    if (dependencyPath == null || dependencyPath.length() == path.length()) {
       return path;
     }
+    final String rootPath = path.startsWith(EXCHANGE_MODULES_FOLDER) ? ""
+        : path.substring(0, path.indexOf(NESTED_EXCHANGE_MODULES_FOLDER));
+    return rootPath + "/" + dependencyPath;
   }
 }
@@ -22,22 +22,34 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import static java.util.Collections.unmodifiableMap;
 import static org.mule.apikit.implv2.v10.model.ResourceImpl.loadResolvedUriParameters;
 
 public class ActionImpl implements Action {
 
   private Method method;
-  private Map<String, MimeType> bodies;
-  private Map<String, Response> responses;
-  private Map<String, Parameter> queryParameters;
-  private Map<String, Parameter> headers;
-  private Map<String, Parameter> resolvedUriParameters;
-  private String successStatusCode;
+  private volatile Resource resource;
+  private volatile boolean queryStringLoaded;
+  private QueryString queryString;
+  private volatile Map<String, MimeType> bodies;
+  private volatile Map<String, Response> responses;
+  private volatile Map<String, Parameter> queryParameters;
+  private volatile Map<String, Parameter> headers;
+  private volatile Map<String, Parameter> resolvedUriParameters;
+  private volatile String successStatusCode;
 
   public ActionImpl(Method method) {
     this.method = method;
   }
 
+  /**
+   * @param resource wrapper of {@code method.resource()}, returned by {@link #getResource()}
+   */
+  public ActionImpl(ResourceImpl resource, Method method) {
+    this.method = method;
+    this.resource = resource;
+  }
+
   @Override
   public ActionType getType() {
     return ActionType.valueOf(method.method().toUpperCase());
@@ -61,12 +73,15 @@ public class ActionImpl implements Action {
     for (org.raml.v2.api.model.v10.bodies.Response response : method.responses()) {
       result.put(response.code().value(), new ResponseImpl(response));
     }
-    return result;
+    return unmodifiableMap(result);
   }
 
   @Override
   public Resource getResource() {
-    return new ResourceImpl(method.resource());
+    if (resource == null) {
+      resource = new ResourceImpl(method.resource());
+    }
+    return resource;
   }
 
   @Override
@@ -83,7 +98,7 @@ public class ActionImpl implements Action {
     for (TypeDeclaration typeDeclaration : method.body()) {
       result.put(typeDeclaration.name(), new MimeTypeImpl(typeDeclaration));
     }
-    return result;
+    return unmodifiableMap(result);
   }
 
   @Override
@@ -99,7 +114,7 @@ public class ActionImpl implements Action {
     for (TypeDeclaration typeDeclaration : method.queryParameters()) {
       result.put(typeDeclaration.name(), new ParameterImpl(typeDeclaration));
     }
-    return result;
+    return unmodifiableMap(result);
   }
 
   @Override
@@ -129,7 +144,7 @@ public class ActionImpl implements Action {
     for (TypeDeclaration typeDeclaration : method.headers()) {
       result.put(typeDeclaration.name(), new ParameterImpl(typeDeclaration));
     }
-    return result;
+    return unmodifiableMap(result);
   }
 
   @Override
@@ -179,7 +194,13 @@ public class ActionImpl implements Action {
 
   @Override
   public QueryString queryString() {
-    return method.queryString() == null ? null : new QueryStringImpl(method.queryString());
+    if (!queryStringLoaded) {
+      TypeDeclaration typeDeclaration = method.queryString();
+      queryString = typeDeclaration == null ? null : new QueryStringImpl(typeDeclaration);
+      // volatile write publishes queryString
+      queryStringLoaded = true;
+    }
+    return queryString;
   }
 
   @Override
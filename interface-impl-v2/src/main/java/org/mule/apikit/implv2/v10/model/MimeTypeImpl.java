@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import static java.util.Collections.unmodifiableMap;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
 import static org.mule.apikit.implv2.v10.model.RamlImpl10V2.getTypeAsString;
@@ -28,7 +29,8 @@ import static org.mule.apikit.implv2.v10.model.RamlImpl10V2.getTypeAsString;
 public class MimeTypeImpl implements MimeType {
 
   private TypeDeclaration typeDeclaration;
-  private Optional<String> typeAsString;
+  private volatile Optional<String> typeAsString;
+  private volatile Map<String, List<Parameter>> formParameters;
 
   public MimeTypeImpl(TypeDeclaration typeDeclaration) {
     this.typeDeclaration = typeDeclaration;
@@ -113,6 +115,13 @@ public class MimeTypeImpl implements MimeType {
 
   @Override
   public Map<String, List<Parameter>> getFormParameters() {
+    if (formParameters == null) {
+      formParameters = loadFormParameters(typeDeclaration);
+    }
+    return formParameters;
+  }
+
+  private static Map<String, List<Parameter>> loadFormParameters(TypeDeclaration typeDeclaration) {
     Map<String, List<Parameter>> result = new LinkedHashMap<>();
 
     if (typeDeclaration instanceof ObjectTypeDeclaration) {
@@ -124,7 +133,7 @@ public class MimeTypeImpl implements MimeType {
       }
     }
 
-    return result;
+    return unmodifiableMap(result);
   }
 
   @Override
@@ -6,7 +6,6 @@
  */
 package org.mule.apikit.implv2.v10.model;
 
-import com.google.common.collect.ImmutableSet;
 import org.mule.apikit.model.parameter.FileProperties;
 import org.mule.apikit.model.parameter.Parameter;
 import org.mule.metadata.api.model.MetadataType;
@@ -20,19 +19,14 @@ import org.raml.v2.api.model.v10.datamodel.TypeDeclaration;
 import org.raml.v2.api.model.v10.datamodel.UnionTypeDeclaration;
 import org.raml.v2.api.model.v10.system.types.AnnotableStringType;
 import org.raml.v2.api.model.v10.system.types.MarkdownString;
-import org.raml.v2.internal.impl.v10.type.TypeId;
 
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 
-import static com.google.common.collect.Collections2.transform;
-import static com.google.common.collect.Sets.newHashSet;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Optional.empty;
@@ -42,30 +36,22 @@ import static org.mule.apikit.ParserUtils.getArrayAsYamlValue;
 import static org.mule.apikit.ParserUtils.quoteValue;
 import static org.mule.apikit.implv2.v10.MetadataResolver.anyType;
 import static org.mule.apikit.implv2.v10.MetadataResolver.resolve;
-import static org.raml.v2.internal.impl.v10.type.TypeId.ARRAY;
-import static org.raml.v2.internal.impl.v10.type.TypeId.BOOLEAN;
-import static org.raml.v2.internal.impl.v10.type.TypeId.INTEGER;
-import static org.raml.v2.internal.impl.v10.type.TypeId.NUMBER;
-import static org.raml.v2.internal.impl.v10.type.TypeId.OBJECT;
+import static org.mule.apikit.implv2.v10.model.TypeNames.BOOLEAN_TYPES;
+import static org.mule.apikit.implv2.v10.model.TypeNames.NUMBER_TYPES;
+import static org.mule.apikit.implv2.v10.model.TypeNames.SCALAR_TYPES;
+import static org.mule.apikit.implv2.v10.model.TypeNames.isOfType;
 
 public class ParameterImpl implements Parameter {
 
-  private static final Set<String> NUMBER_DATA_TYPES = ImmutableSet.of(NUMBER.getType(), INTEGER.getType());
-  private static final Set<String> BOOLEAN_DATA_TYPES = ImmutableSet.of(BOOLEAN.getType());
   private TypeDeclaration typeDeclaration;
-  private Collection<String> scalarTypes;
-  private Boolean required;
+  private final boolean scalar;
+  private volatile Boolean required;
   private String defaultValue;
   private final boolean typeNeedsQuotes;
 
   public ParameterImpl(TypeDeclaration typeDeclaration) {
     this.typeDeclaration = typeDeclaration;
-
-    Set<TypeId> typeIds = newHashSet(TypeId.values());
-    typeIds.remove(OBJECT);
-    typeIds.remove(ARRAY);
-
-    scalarTypes = transform(typeIds, TypeId::getType);
+    this.scalar = isOfType(typeDeclaration, SCALAR_TYPES);
     this.typeNeedsQuotes = needsQuotes(typeDeclaration);
   }
 
@@ -167,7 +153,7 @@ public class ParameterImpl implements Parameter {
 
   @Override
   public boolean isScalar() {
-    return isOfType(typeDeclaration, scalarTypes);
+    return scalar;
   }
 
   @Override
@@ -210,24 +196,7 @@ public class ParameterImpl implements Parameter {
         || typeDeclaration instanceof UnionTypeDeclaration && hasNilShape((UnionTypeDeclaration) typeDeclaration);
   }
 
-  /**
-   * Returns whether the type or parent's types are part of the type collection.
-   *
-   * @param type
-   * @param typesCollection
-   * @return true if typeSet contains type or parent's types
-   */
-  private static boolean isOfType(TypeDeclaration type, Collection<String> typesCollection) {
-    if (type.type() == null) {
-      String[] types = type.name().split("\\|");
-      return Arrays.stream(types).anyMatch(t -> typesCollection.contains(t.trim()));
-    }
-    return typesCollection.contains(type.type()) || (type.parentTypes() != null
-        && !type.parentTypes().isEmpty()
-        && type.parentTypes().stream().anyMatch(pt -> typesCollection.contains(pt.type())));
-  }
-
-  private boolean needsQuotes(TypeDeclaration typeDeclaration) {
+  private static boolean needsQuotes(TypeDeclaration typeDeclaration) {
     TypeDeclaration type = typeDeclaration;
     if (type instanceof ArrayTypeDeclaration) {
       type = ((ArrayTypeDeclaration) type).items();
@@ -239,10 +208,10 @@ public class ParameterImpl implements Parameter {
       }
     } else if (typeDeclaration instanceof UnionTypeDeclaration) {
       return ((UnionTypeDeclaration) typeDeclaration).of().stream().anyMatch(t -> needsQuotes(t));
-    } else if (!isOfType(type, scalarTypes)) {
+    } else if (!isOfType(type, SCALAR_TYPES)) {
       return Boolean.FALSE;
     }
-    return !(isOfType(type, NUMBER_DATA_TYPES) || isOfType(type, BOOLEAN_DATA_TYPES));
+    return !(isOfType(type, NUMBER_TYPES) || isOfType(type, BOOLEAN_TYPES));
   }
 
   private static boolean hasNilShape(UnionTypeDeclaration unionType) {
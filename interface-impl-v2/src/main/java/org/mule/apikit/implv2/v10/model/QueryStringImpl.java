@@ -13,34 +13,26 @@ import org.raml.v2.api.model.v10.datamodel.ArrayTypeDeclaration;
 import org.raml.v2.api.model.v10.datamodel.ObjectTypeDeclaration;
 import org.raml.v2.api.model.v10.datamodel.TypeDeclaration;
 import org.raml.v2.api.model.v10.datamodel.UnionTypeDeclaration;
-import org.raml.v2.internal.impl.v10.type.TypeId;
 
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Optional;
 
-import static com.google.common.collect.Collections2.transform;
-import static com.google.common.collect.Sets.newHashSet;
 import static java.util.Collections.singletonList;
 import static org.mule.apikit.ParserUtils.queryStringAsYamlValue;
-import static org.raml.v2.internal.impl.v10.type.TypeId.ARRAY;
-import static org.raml.v2.internal.impl.v10.type.TypeId.OBJECT;
+import static org.mule.apikit.ParserUtils.validateQueryString;
+import static org.mule.apikit.implv2.v10.model.TypeNames.SCALAR_TYPES;
 
 public class QueryStringImpl implements QueryString {
 
   private TypeDeclaration typeDeclaration;
-  private Collection<String> scalarTypes;
+  private final boolean scalar;
 
   public QueryStringImpl(TypeDeclaration typeDeclaration) {
     this.typeDeclaration = typeDeclaration;
-
-    Set<TypeId> typeIds = newHashSet(TypeId.values());
-    typeIds.remove(OBJECT);
-    typeIds.remove(ARRAY);
-
-    scalarTypes = transform(typeIds, TypeId::getType);
+    this.scalar = SCALAR_TYPES.contains(typeDeclaration.type());
   }
 
   @Override
@@ -61,7 +53,15 @@ public class QueryStringImpl implements QueryString {
 
   @Override
   public boolean validate(Map<String, Collection<?>> queryParams) {
-    String queryStringYaml = queryStringAsYamlValue(facets(), queryParams);
+    Map<String, Parameter> facets = facets();
+    if (isPlainObject()) {
+      Optional<Boolean> valid = validateQueryString(facets, queryParams);
+      if (valid.isPresent()) {
+        return valid.get();
+      }
+    }
+
+    String queryStringYaml = queryStringAsYamlValue(facets, queryParams);
 
     // If no YAML, empty value ends up in an empty JSON object
     if (queryStringYaml.isEmpty()) {
@@ -71,9 +71,25 @@ public class QueryStringImpl implements QueryString {
     return validate(queryStringYaml);
   }
 
+  /**
+   * Whether the query string is valid when all of its facets are, so it can be validated without building a YAML document.
+   */
+  private boolean isPlainObject() {
+    if (!(typeDeclaration instanceof ObjectTypeDeclaration)) {
+      return false;
+    }
+    ObjectTypeDeclaration objectType = (ObjectTypeDeclaration) typeDeclaration;
+    return objectType.minProperties() == null && objectType.maxProperties() == null && objectType.discriminator() == null
+        && objectType.properties().stream().noneMatch(property -> isPatternProperty(property.name()));
+  }
+
+  private static boolean isPatternProperty(String name) {
+    return name.startsWith("/") && name.endsWith("/");
+  }
+
   @Override
   public boolean isScalar() {
-    return scalarTypes.contains(typeDeclaration.type());
+    return scalar;
   }
 
   @Override
@@ -29,6 +29,7 @@ import java.util.Map;
 import static java.util.Collections.emptyMap;
 import static org.mule.apikit.ApiType.RAML;
 import static org.mule.apikit.common.RamlUtils.replaceBaseUri;
+import static org.mule.apikit.implv2.v10.model.ResourceImpl.loadResources;
 import static org.mule.apikit.model.ApiVendor.RAML_10;
 
 public class RamlImpl10V2 implements ApiSpecification {
@@ -37,6 +38,7 @@ public class RamlImpl10V2 implements ApiSpecification {
   private final String ramlPath;
   private final ResourceLoader resourceLoader;
   private List<String> references;
+  private volatile Map<String, Resource> resources;
 
   public RamlImpl10V2(Api api, ResourceLoader resourceLoader, String ramlPath, List<String> references) {
     this.api = api;
@@ -47,12 +49,10 @@ public class RamlImpl10V2 implements ApiSpecification {
 
   @Override
   public Map<String, Resource> getResources() {
-    Map<String, Resource> map = new LinkedHashMap<>();
-    List<org.raml.v2.api.model.v10.resources.Resource> resources = api.resources();
-    for (org.raml.v2.api.model.v10.resources.Resource resource : resources) {
-      map.put(resource.relativeUri().value(), new ResourceImpl(resource));
+    if (resources == null) {
+      resources = loadResources(api.resources());
     }
-    return map;
+    return resources;
   }
 
   @Override
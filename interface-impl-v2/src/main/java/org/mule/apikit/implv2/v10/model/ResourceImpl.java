@@ -18,13 +18,15 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import static java.util.Collections.unmodifiableMap;
 import static org.mule.apikit.ParserUtils.resolveVersion;
 
 public class ResourceImpl implements Resource {
 
   private org.raml.v2.api.model.v10.resources.Resource resource;
-  private Map<ActionType, Action> actions;
-  private Map<String, Parameter> resolvedUriParameters;
+  private volatile Map<ActionType, Action> actions;
+  private volatile Map<String, Resource> resources;
+  private volatile Map<String, Parameter> resolvedUriParameters;
 
   public ResourceImpl(org.raml.v2.api.model.v10.resources.Resource resource) {
     this.resource = resource;
@@ -59,17 +61,17 @@ public class ResourceImpl implements Resource {
   @Override
   public Map<ActionType, Action> getActions() {
     if (actions == null) {
-      actions = loadActions(resource);
+      actions = loadActions();
     }
     return actions;
   }
 
-  private static Map<ActionType, Action> loadActions(org.raml.v2.api.model.v10.resources.Resource resource) {
+  private Map<ActionType, Action> loadActions() {
     Map<ActionType, Action> map = new LinkedHashMap<>();
     for (Method method : resource.methods()) {
-      map.put(getActionKey(method.method()), new ActionImpl(method));
+      map.put(getActionKey(method.method()), new ActionImpl(this, method));
     }
-    return map;
+    return unmodifiableMap(map);
   }
 
   private static ActionType getActionKey(String method) {
@@ -78,11 +80,18 @@ public class ResourceImpl implements Resource {
 
   @Override
   public Map<String, Resource> getResources() {
-    Map<String, Resource> result = new HashMap<>();
-    for (org.raml.v2.api.model.v10.resources.Resource item : resource.resources()) {
+    if (resources == null) {
+      resources = loadResources(resource.resources());
+    }
+    return resources;
+  }
+
+  static Map<String, Resource> loadResources(List<org.raml.v2.api.model.v10.resources.Resource> resources) {
+    Map<String, Resource> result = new LinkedHashMap<>();
+    for (org.raml.v2.api.model.v10.resources.Resource item : resources) {
       result.put(item.relativeUri().value(), new ResourceImpl(item));
     }
-    return result;
+    return unmodifiableMap(result);
   }
 
   @Override
@@ -107,7 +116,7 @@ public class ResourceImpl implements Resource {
       }
       current = current.parentResource();
     }
-    return result;
+    return unmodifiableMap(result);
   }
 
   @Override
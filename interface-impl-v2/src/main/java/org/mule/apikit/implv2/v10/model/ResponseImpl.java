@@ -14,12 +14,13 @@ import org.raml.v2.api.model.v10.datamodel.TypeDeclaration;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+import static java.util.Collections.unmodifiableMap;
 import static java.util.Optional.ofNullable;
 
 public class ResponseImpl implements Response {
 
   private org.raml.v2.api.model.v10.bodies.Response response;
-  private Map<String, MimeType> body;
+  private volatile Map<String, MimeType> body;
 
   public ResponseImpl(org.raml.v2.api.model.v10.bodies.Response response) {
     this.response = response;
@@ -44,7 +45,7 @@ public class ResponseImpl implements Response {
     for (TypeDeclaration typeDeclaration : response.body()) {
       result.put(typeDeclaration.name(), new MimeTypeImpl(typeDeclaration));
     }
-    return result;
+    return unmodifiableMap(result);
   }
 
   @Override
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.apikit.implv2.v10.model;
+
+import com.google.common.collect.ImmutableSet;
+import org.raml.v2.api.model.v10.datamodel.TypeDeclaration;
+import org.raml.v2.internal.impl.v10.type.TypeId;
+
+import java.util.Set;
+
+import static org.raml.v2.internal.impl.v10.type.TypeId.ARRAY;
+import static org.raml.v2.internal.impl.v10.type.TypeId.BOOLEAN;
+import static org.raml.v2.internal.impl.v10.type.TypeId.INTEGER;
+import static org.raml.v2.internal.impl.v10.type.TypeId.NUMBER;
+import static org.raml.v2.internal.impl.v10.type.TypeId.OBJECT;
+
+/**
+ * Type name sets used to classify type declarations, built once and shared by every parameter and query string.
+ */
+final class TypeNames {
+
+  static final Set<String> SCALAR_TYPES = scalarTypes();
+  static final Set<String> NUMBER_TYPES = ImmutableSet.of(NUMBER.getType(), INTEGER.getType());
+  static final Set<String> BOOLEAN_TYPES = ImmutableSet.of(BOOLEAN.getType());
+
+  private TypeNames() {}
+
+  private static Set<String> scalarTypes() {
+    ImmutableSet.Builder<String> builder = ImmutableSet.builder();
+    for (TypeId typeId : TypeId.values()) {
+      if (typeId != OBJECT && typeId != ARRAY) {
+        builder.add(typeId.getType());
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * Returns whether the type or parent's types are part of the type names.
+   *
+   * @param type
+   * @param typeNames
+   * @return true if typeNames contains type or parent's types
+   */
+  static boolean isOfType(TypeDeclaration type, Set<String> typeNames) {
+    if (type.type() == null) {
+      return anyUnionMemberIn(type.name(), typeNames);
+    }
+    return typeNames.contains(type.type()) || (type.parentTypes() != null
+        && !type.parentTypes().isEmpty()
+        && type.parentTypes().stream().anyMatch(pt -> typeNames.contains(pt.type())));
+  }
+
+  /**
+   * Same as splitting {@code name} by {@code |} and checking every trimmed member, without a regex nor intermediate arrays.
+   */
+  private static boolean anyUnionMemberIn(String name, Set<String> typeNames) {
+    int start = 0;
+    while (start <= name.length()) {
+      int end = name.indexOf('|', start);
+      if (end < 0) {
+        end = name.length();
+      }
+      if (typeNames.contains(name.substring(start, end).trim())) {
+        return true;
+      }
+      start = end + 1;
+    }
+    return false;
+  }
+}
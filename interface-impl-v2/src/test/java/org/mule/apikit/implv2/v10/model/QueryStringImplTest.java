@@ -15,6 +15,7 @@ import org.mule.apikit.model.Resource;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Map;
 
 import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
@@ -79,6 +80,18 @@ public class QueryStringImplTest {
         }));
   }
 
+  @Test
+  public void plainObjectArrayFacetTest() {
+    Map<String, Collection<?>> queryParams = new HashMap<>();
+    queryParams.put("subject", asList("Email Subject"));
+    queryParams.put("to", asList("John", "Ana", "Bob"));
+    queryParams.put("body", asList("Email body"));
+    assertTrue(emailQueryString.validate(queryParams));
+
+    queryParams.remove("to");
+    assertFalse(emailQueryString.validate(queryParams));
+  }
+
   @Test
   public void isScalarTest() {
     assertFalse(locationsQueryString.isScalar());
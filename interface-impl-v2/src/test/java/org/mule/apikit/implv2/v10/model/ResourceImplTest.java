@@ -20,6 +20,7 @@ import java.util.Map;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 public class ResourceImplTest {
 
@@ -34,12 +35,13 @@ public class ResourceImplTest {
   private Resource leaguesResource;
   private Resource leagueIdResource;
   private Resource leaguesHistoryResource;
+  private RamlImpl10V2 api;
 
   @Before
   public void setUp() throws Exception {
     String apiLocation = this.getClass().getResource("/apis/10-leagues/api.raml").toURI().toString();
-    RamlImpl10V2 parser = (RamlImpl10V2) new ParserWrapperV2(apiLocation, Collections.emptyList()).parse();
-    Map<String, Resource> resources = parser.getResources();
+    api = (RamlImpl10V2) new ParserWrapperV2(apiLocation, Collections.emptyList()).parse();
+    Map<String, Resource> resources = api.getResources();
     leaguesResource = resources.get(LEAGUES_RESOURCE);
     leagueIdResource = leaguesResource.getResources().get(LEAGUE_ID_RESOURCE);
     leaguesHistoryResource = resources.get(LEAGUES_HISTORY_RESOURCE);
@@ -129,4 +131,20 @@ public class ResourceImplTest {
     leaguesResource.cleanBaseUriParameters();
   }
 
+  @Test
+  public void wrapperTreeIsBuiltOnceTest() {
+    assertSame(api.getResources(), api.getResources());
+    assertSame(leaguesResource, api.getResources().get(LEAGUES_RESOURCE));
+    assertSame(leagueIdResource, leaguesResource.getResources().get(LEAGUE_ID_RESOURCE));
+
+    Action action = leagueIdResource.getAction(PUT_ACTION);
+    assertSame(action, leagueIdResource.getAction(PUT_ACTION));
+    assertSame(leagueIdResource, action.getResource());
+    assertSame(action.queryString(), action.queryString());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void resourcesAreUnmodifiableTest() {
+    leaguesResource.getResources().clear();
+  }
 }
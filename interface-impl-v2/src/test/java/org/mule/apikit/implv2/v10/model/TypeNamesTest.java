@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.apikit.implv2.v10.model;
+
+import org.junit.Test;
+import org.raml.v2.api.model.v10.datamodel.TypeDeclaration;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mule.apikit.implv2.v10.model.TypeNames.BOOLEAN_TYPES;
+import static org.mule.apikit.implv2.v10.model.TypeNames.NUMBER_TYPES;
+import static org.mule.apikit.implv2.v10.model.TypeNames.SCALAR_TYPES;
+import static org.mule.apikit.implv2.v10.model.TypeNames.isOfType;
+
+public class TypeNamesTest {
+
+  @Test
+  public void scalarTypesTest() {
+    assertTrue(SCALAR_TYPES.contains("string"));
+    assertTrue(SCALAR_TYPES.contains("integer"));
+    assertFalse(SCALAR_TYPES.contains("object"));
+    assertFalse(SCALAR_TYPES.contains("array"));
+  }
+
+  @Test
+  public void unionNameTest() {
+    assertTrue(isOfType(unionNamed("string | nil"), SCALAR_TYPES));
+    assertTrue(isOfType(unionNamed("object|integer"), NUMBER_TYPES));
+    assertTrue(isOfType(unionNamed("boolean"), BOOLEAN_TYPES));
+    assertFalse(isOfType(unionNamed("object | array"), SCALAR_TYPES));
+    assertFalse(isOfType(unionNamed("string|"), NUMBER_TYPES));
+  }
+
+  private static TypeDeclaration unionNamed(String name) {
+    TypeDeclaration type = mock(TypeDeclaration.class);
+    doReturn(name).when(type).name();
+    return type;
+  }
+}
@@ -11,19 +11,30 @@ import org.mule.parser.service.strategy.ParsingStrategy;
 import org.mule.parser.service.strategy.RamlParsingStrategy;
 import org.mule.parser.service.strategy.WithFallbackParsingStrategy;
 
+import java.util.function.Supplier;
+
 public enum ParserMode {
 
-  AMF(new AMFParsingStrategy()),
-  RAML(new RamlParsingStrategy()),
-  AUTO(new WithFallbackParsingStrategy());
+  AMF(AMFParsingStrategy::new),
+  RAML(RamlParsingStrategy::new),
+  AUTO(WithFallbackParsingStrategy::new);
 
+  private final Supplier<ParsingStrategy> factory;
   private final ParsingStrategy strategy;
 
-  ParserMode(ParsingStrategy strategy) {
-    this.strategy = strategy;
+  ParserMode(Supplier<ParsingStrategy> factory) {
+    this.factory = factory;
+    this.strategy = factory.get();
   }
 
   public ParsingStrategy getStrategy() {
     return strategy;
   }
+
+  /**
+   * @return a new strategy of this mode, that can be configured without affecting any other caller
+   */
+  public ParsingStrategy createStrategy() {
+    return factory.get();
+  }
 }
@@ -6,13 +6,35 @@
  */
 package org.mule.parser.service;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.mule.apikit.metrics.ParseMetrics;
 import org.mule.apikit.model.api.ApiReference;
+import org.mule.parser.service.cache.ParseResultCache;
+import org.mule.parser.service.cache.SnapshotStore;
+import org.mule.parser.service.metrics.MeasuredParseResult;
+import org.mule.parser.service.metrics.ParseMetricsListener;
+import org.mule.parser.service.result.ExceptionParseResult;
 import org.mule.parser.service.result.ParseResult;
 import org.mule.parser.service.strategy.ParsingStrategy;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 
+import static java.lang.Math.min;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static org.mule.parser.service.ParserMode.AMF;
 import static org.mule.parser.service.ParserMode.AUTO;
 import static org.mule.parser.service.ParserMode.RAML;
@@ -20,7 +42,13 @@ import static org.mule.parser.service.ParserMode.RAML;
 public class ParserService {
 
   private static final String MULE_APIKIT_PARSER = "mule.apikit.parser";
+  private static final String MULE_APIKIT_PARSER_PARALLELISM = "mule.apikit.parser.parallelism";
+  private static final String MULE_APIKIT_PARSER_METRICS = "mule.apikit.parser.metrics";
+  private static final List<ParseMetricsListener> METRICS_LISTENERS =
+      ImmutableList.copyOf(ServiceLoader.load(ParseMetricsListener.class, ParserService.class.getClassLoader()));
   private ScheduledExecutorService executor;
+  private ParseResultCache cache;
+  private SnapshotStore snapshots = SnapshotStore.fromSystemProperty().orElse(null);
 
   public ParserService() {
 
@@ -30,17 +58,190 @@ public class ParserService {
     this.executor = executor;
   }
 
+  /**
+   * @param cache cache consulted before parsing and populated with successful results, may be shared between services
+   */
+  public ParserService(ScheduledExecutorService executor, ParseResultCache cache) {
+    this.executor = executor;
+    this.cache = cache;
+  }
+
+  /**
+   * @param cache cache consulted before parsing and populated with successful results, may be shared between services
+   * @param snapshots store of parsed apis consulted after {@code cache} and populated with successful AMF results
+   */
+  public ParserService(ScheduledExecutorService executor, ParseResultCache cache, SnapshotStore snapshots) {
+    this.executor = executor;
+    this.cache = cache;
+    this.snapshots = snapshots;
+  }
+
   public ParseResult parse(ApiReference ref) {
     return parse(ref, AUTO);
   }
 
   public ParseResult parse(ApiReference ref, ParserMode parserConfig) {
     ParserMode parser = getOverrideParserConfig().orElse(parserConfig);
-    ParsingStrategy parsingStrategy = parser.getStrategy();
-    if (executor != null) {
-      parsingStrategy.setExecutor(executor);
+    if (cache != null) {
+      Optional<ParseResult> cached = cache.get(ref, parser);
+      if (cached.isPresent()) {
+        return cached.get();
+      }
     }
-    return parsingStrategy.parse(ref);
+    Optional<ParseResult> snapshot = getSnapshot(ref, parser);
+    ParseResult result = snapshot.isPresent() ? snapshot.get() : parseWithMetrics(ref, parser);
+    if (!snapshot.isPresent() && snapshots != null) {
+      snapshots.put(ref, parser, result);
+    }
+    if (cache != null) {
+      cache.put(ref, parser, result);
+    }
+    return result;
+  }
+
+  /**
+   * Metrics are collected when {@code -Dmule.apikit.parser.metrics} is set or a {@link ParseMetricsListener} is registered.
+   */
+  private ParseResult parseWithMetrics(ApiReference ref, ParserMode parser) {
+    if (!isMetricsEnabled()) {
+      return getStrategy(parser).parse(ref);
+    }
+    ParseMetrics metrics = new ParseMetrics();
+    return measured(ref, parser, getStrategy(parser).parse(ref, metrics), metrics);
+  }
+
+  private CompletionStage<ParseResult> parseAsyncWithMetrics(ApiReference ref, ParserMode parser) {
+    if (!isMetricsEnabled()) {
+      return getStrategy(parser).parseAsync(ref);
+    }
+    ParseMetrics metrics = new ParseMetrics();
+    return getStrategy(parser).parseAsync(ref, metrics).thenApply(result -> measured(ref, parser, result, metrics));
+  }
+
+  private static boolean isMetricsEnabled() {
+    return !METRICS_LISTENERS.isEmpty() || Boolean.getBoolean(MULE_APIKIT_PARSER_METRICS);
+  }
+
+  private static ParseResult measured(ApiReference ref, ParserMode parser, ParseResult result, ParseMetrics metrics) {
+    ParseResult measured = new MeasuredParseResult(result, metrics);
+    for (ParseMetricsListener listener : METRICS_LISTENERS) {
+      try {
+        listener.onParse(ref, parser, measured, metrics);
+      } catch (RuntimeException e) {
+        // metrics must never fail a parse
+      }
+    }
+    return measured;
+  }
+
+  private Optional<ParseResult> getSnapshot(ApiReference ref, ParserMode parser) {
+    return snapshots != null && parser != RAML ? snapshots.get(ref, parser, executor) : Optional.empty();
+  }
+
+  public CompletionStage<ParseResult> parseAsync(ApiReference ref) {
+    return parseAsync(ref, AUTO);
+  }
+
+  /**
+   * Same as {@link #parse(ApiReference, ParserMode)}, but the calling thread is not parked while AMF parses and validates the
+   * api.
+   */
+  public CompletionStage<ParseResult> parseAsync(ApiReference ref, ParserMode parserConfig) {
+    ParserMode parser = getOverrideParserConfig().orElse(parserConfig);
+    if (cache != null) {
+      Optional<ParseResult> cached = cache.get(ref, parser);
+      if (cached.isPresent()) {
+        return completedFuture(cached.get());
+      }
+    }
+    Optional<ParseResult> snapshot = getSnapshot(ref, parser);
+    if (snapshot.isPresent()) {
+      if (cache != null) {
+        cache.put(ref, parser, snapshot.get());
+      }
+      return completedFuture(snapshot.get());
+    }
+    if (cache == null && snapshots == null) {
+      return parseAsyncWithMetrics(ref, parser);
+    }
+    return parseAsyncWithMetrics(ref, parser).thenApply(result -> {
+      if (snapshots != null) {
+        snapshots.put(ref, parser, result);
+      }
+      if (cache != null) {
+        cache.put(ref, parser, result);
+      }
+      return result;
+    });
+  }
+
+  private ParsingStrategy getStrategy(ParserMode parser) {
+    if (executor == null) {
+      return parser.getStrategy();
+    }
+    // a strategy of its own, the shared ones are used concurrently by other services and workers
+    ParsingStrategy parsingStrategy = parser.createStrategy();
+    parsingStrategy.setExecutor(executor);
+    return parsingStrategy;
+  }
+
+  public Map<ApiReference, ParseResult> parseAll(Collection<ApiReference> refs) {
+    return parseAll(refs, AUTO);
+  }
+
+  /**
+   * Parses every reference in parallel and waits for all of them.
+   *
+   * @return the results in the same order as {@code refs}
+   */
+  public Map<ApiReference, ParseResult> parseAll(Collection<ApiReference> refs, ParserMode parserConfig) {
+    Map<ApiReference, ParseResult> results = new LinkedHashMap<>();
+    parseAllAsync(refs, parserConfig).forEach((ref, result) -> results.put(ref, result.join()));
+    return results;
+  }
+
+  /**
+   * Spreads the parsing of every reference over a bounded number of workers, at most {@code -Dmule.apikit.parser.parallelism}
+   * (the number of available processors by default). Workers run on a dedicated pool discarded once the parsing is done, never on
+   * the executor given to this service: each worker blocks until its api is parsed, and AMF runs its own tasks on the given
+   * executor.
+   *
+   * @return a future for each reference, in the same order as {@code refs}
+   */
+  public Map<ApiReference, CompletableFuture<ParseResult>> parseAllAsync(Collection<ApiReference> refs,
+                                                                         ParserMode parserConfig) {
+    Map<ApiReference, CompletableFuture<ParseResult>> results = new LinkedHashMap<>();
+    refs.forEach(ref -> results.put(ref, new CompletableFuture<>()));
+    if (results.isEmpty()) {
+      return results;
+    }
+    Queue<Entry<ApiReference, CompletableFuture<ParseResult>>> pending = new ConcurrentLinkedQueue<>(results.entrySet());
+    int workers = min(getParallelism(), pending.size());
+    ExecutorService pool = newFixedThreadPool(workers, new ThreadFactoryBuilder()
+        .setNameFormat("apikit-parser-%d").setDaemon(true).build());
+    for (int i = 0; i < workers; i++) {
+      pool.execute(() -> parsePending(pending, parserConfig));
+    }
+    pool.shutdown();
+    return results;
+  }
+
+  private void parsePending(Queue<Entry<ApiReference, CompletableFuture<ParseResult>>> pending, ParserMode parserConfig) {
+    Entry<ApiReference, CompletableFuture<ParseResult>> next;
+    while ((next = pending.poll()) != null) {
+      try {
+        next.getValue().complete(parse(next.getKey(), parserConfig));
+      } catch (Exception e) {
+        next.getValue().complete(new ExceptionParseResult(e));
+      } catch (Throwable t) {
+        next.getValue().completeExceptionally(t);
+      }
+    }
+  }
+
+  private static int getParallelism() {
+    Integer parallelism = Integer.getInteger(MULE_APIKIT_PARSER_PARALLELISM);
+    return parallelism != null && parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
   }
 
   private Optional<ParserMode> getOverrideParserConfig() {
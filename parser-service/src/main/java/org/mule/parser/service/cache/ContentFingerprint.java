@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.parser.service.cache;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import org.mule.apikit.loader.ResourceContentCache;
+import org.mule.apikit.loader.ResourceLoader;
+import org.mule.apikit.model.api.ApiReference;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Collection;
+import java.util.Optional;
+
+import static com.google.common.hash.Funnels.asOutputStream;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.mule.apikit.common.ApiSyncUtils.isSyncProtocol;
+import static org.mule.apikit.common.ReferencesUtils.toURI;
+
+/**
+ * SHA-256 digest of the content of a root API document and every document it references.
+ */
+final class ContentFingerprint {
+
+  private static final byte MISSING = 0;
+  private static final byte PRESENT = 1;
+  private static final String FILE_SCHEME = "file";
+
+  private ContentFingerprint() {}
+
+  /**
+   * @return the fingerprint, or {@code null} if the root document cannot be read
+   */
+  static String of(ApiReference ref, Collection<String> references) {
+    Hasher hasher = Hashing.sha256().newHasher();
+    try (InputStream root = ref.resolve()) {
+      if (root == null) {
+        return null;
+      }
+      hasher.putString(ref.getLocation(), UTF_8);
+      ByteStreams.copy(root, asOutputStream(hasher));
+    } catch (IOException e) {
+      return null;
+    }
+    File rootDirectory = getRootDirectory(ref.getLocation());
+    for (String reference : references) {
+      hasher.putString(reference, UTF_8);
+      try (InputStream content = open(reference, rootDirectory, ref.getResourceLoader())) {
+        if (content == null) {
+          hasher.putByte(MISSING);
+        } else {
+          hasher.putByte(PRESENT);
+          ByteStreams.copy(content, asOutputStream(hasher));
+        }
+      } catch (IOException | RuntimeException e) {
+        hasher.putByte(MISSING);
+      }
+    }
+    return hasher.hash().toString();
+  }
+
+  private static InputStream open(String reference, File rootDirectory, Optional<ResourceLoader> loader) throws IOException {
+    if (isSyncProtocol(reference)) {
+      return loader.isPresent() ? loader.get().getResourceAsStream(reference) : null;
+    }
+    URI uri = toURI(reference);
+    if (uri.isAbsolute()) {
+      return ResourceContentCache.getInstance().open(uri);
+    }
+    File file = new File(reference);
+    if (!file.isAbsolute()) {
+      // relative references are relative to the root document, not to the working directory
+      file = rootDirectory != null ? new File(rootDirectory, reference) : null;
+    }
+    if (file != null && file.exists()) {
+      return ResourceContentCache.getInstance().open(file.toURI());
+    }
+    return loader.isPresent() ? loader.get().getResourceAsStream(reference) : null;
+  }
+
+  /**
+   * @return the directory of the root document, or {@code null} if it is not a local file
+   */
+  private static File getRootDirectory(String location) {
+    File root = new File(location);
+    if (!root.isFile()) {
+      try {
+        URI uri = toURI(location);
+        root = FILE_SCHEME.equalsIgnoreCase(uri.getScheme()) ? new File(uri) : null;
+      } catch (IllegalArgumentException e) {
+        root = null;
+      }
+    }
+    return root != null ? root.getAbsoluteFile().getParentFile() : null;
+  }
+}
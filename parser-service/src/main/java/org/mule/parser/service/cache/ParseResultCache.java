@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.parser.service.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.mule.apikit.loader.ResourceLoader;
+import org.mule.apikit.model.ApiSpecification;
+import org.mule.apikit.model.api.ApiReference;
+import org.mule.parser.service.ParserMode;
+import org.mule.parser.service.result.ParseResult;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Bounded cache of successful {@link ParseResult}s.
+ * <p>
+ * Entries are keyed by the root location, the resource loader of the reference and the parser mode, and are only served while the
+ * content of the root document and of every document returned by {@link ApiSpecification#getAllReferences()} still hashes to the
+ * value recorded when the entry was stored. When the maximum size is reached the least recently used entries are evicted.
+ * <p>
+ * Cached {@link ApiSpecification}s are shared between callers, so they must not be mutated (e.g. by updating the base uri) while
+ * the cache is shared.
+ */
+public class ParseResultCache {
+
+  public static final long DEFAULT_MAXIMUM_SIZE = 64;
+
+  private final Cache<Key, Entry> entries;
+
+  public ParseResultCache() {
+    this(DEFAULT_MAXIMUM_SIZE);
+  }
+
+  public ParseResultCache(long maximumSize) {
+    this.entries = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+  }
+
+  public Optional<ParseResult> get(ApiReference ref, ParserMode mode) {
+    Key key = new Key(ref, mode);
+    Entry entry = entries.getIfPresent(key);
+    if (entry == null) {
+      return Optional.empty();
+    }
+    if (!entry.fingerprint.equals(ContentFingerprint.of(ref, entry.references))) {
+      entries.asMap().remove(key, entry);
+      return Optional.empty();
+    }
+    return Optional.of(entry.result);
+  }
+
+  public void put(ApiReference ref, ParserMode mode, ParseResult result) {
+    ApiSpecification api = result.get();
+    if (!result.success() || api == null) {
+      return;
+    }
+    List<String> references = api.getAllReferences();
+    String fingerprint = ContentFingerprint.of(ref, references);
+    if (fingerprint != null) {
+      entries.put(new Key(ref, mode), new Entry(fingerprint, references, result));
+    }
+  }
+
+  public void invalidateAll() {
+    entries.invalidateAll();
+  }
+
+  public long size() {
+    return entries.size();
+  }
+
+  private static final class Key {
+
+    private final String location;
+    private final ResourceLoader loader;
+    private final ParserMode mode;
+
+    Key(ApiReference ref, ParserMode mode) {
+      this.location = ref.getLocation();
+      this.loader = ref.getResourceLoader().orElse(null);
+      this.mode = mode;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) o;
+      return location.equals(key.location) && Objects.equals(loader, key.loader) && mode == key.mode;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(location, loader, mode);
+    }
+  }
+
+  private static final class Entry {
+
+    private final String fingerprint;
+    private final List<String> references;
+    private final ParseResult result;
+
+    Entry(String fingerprint, List<String> references, ParseResult result) {
+      this.fingerprint = fingerprint;
+      this.references = references;
+      this.result = result;
+    }
+  }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.parser.service.cache;
+
+import amf.apicontract.client.platform.APIConfiguration;
+import com.google.common.hash.Hashing;
+import org.mule.amf.impl.AMFParser;
+import org.mule.amf.impl.model.AMFImpl;
+import org.mule.apikit.model.ApiSpecification;
+import org.mule.apikit.model.api.ApiReference;
+import org.mule.parser.service.ParserMode;
+import org.mule.parser.service.result.DefaultParseResult;
+import org.mule.parser.service.result.DefaultParsingIssue;
+import org.mule.parser.service.result.ParseResult;
+import org.mule.parser.service.result.ParsingIssue;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.Collections.emptyList;
+
+/**
+ * Stores successfully parsed AMF apis in a local directory, so they can be loaded without parsing them again after a restart.
+ * <p>
+ * Each snapshot holds a small binary header followed by the resolved model rendered as an AMF graph (JSON-LD). The header records
+ * the versions of this library and of AMF, the references of the api, the warnings found when it was parsed and a
+ * {@link ContentFingerprint} of the root document and its references. A snapshot is only loaded while all of them still match,
+ * otherwise it is ignored and replaced the next time the api is parsed. Snapshots are memory-mapped when read.
+ * <p>
+ * Only apis parsed with AMF and without errors are stored. Reading or writing a snapshot never fails the parsing, any problem is
+ * handled as a missing snapshot.
+ */
+public class SnapshotStore {
+
+  /**
+   * When set, {@link org.mule.parser.service.ParserService}s created without an explicit store keep their snapshots in this
+   * directory
+   */
+  public static final String MULE_APIKIT_PARSER_SNAPSHOT_DIRECTORY = "mule.apikit.parser.snapshotDirectory";
+
+  private static final int MAGIC = 0x41504B53;
+  private static final short FORMAT_VERSION = 1;
+  private static final String SUFFIX = ".snapshot";
+  private static final String VERSION = version(SnapshotStore.class) + "/" + version(AMFParser.class) + "/"
+      + version(APIConfiguration.class);
+
+  private final Path directory;
+
+  public SnapshotStore(Path directory) {
+    this.directory = directory;
+  }
+
+  /**
+   * @return a store over the directory given by {@value #MULE_APIKIT_PARSER_SNAPSHOT_DIRECTORY}, if set
+   */
+  public static Optional<SnapshotStore> fromSystemProperty() {
+    String directory = System.getProperty(MULE_APIKIT_PARSER_SNAPSHOT_DIRECTORY);
+    return directory == null || directory.isEmpty() ? Optional.empty() : Optional.of(new SnapshotStore(Paths.get(directory)));
+  }
+
+  public Optional<ParseResult> get(ApiReference ref, ParserMode mode, ScheduledExecutorService executor) {
+    Path file = file(ref, mode);
+    if (!Files.isRegularFile(file)) {
+      return Optional.empty();
+    }
+    try {
+      Snapshot snapshot = read(file);
+      if (!VERSION.equals(snapshot.version) || !ref.getLocation().equals(snapshot.location)
+          || !snapshot.fingerprint.equals(ContentFingerprint.of(ref, snapshot.references))) {
+        return Optional.empty();
+      }
+      AMFImpl api = AMFParser.fromGraph(ref, snapshot.graph, snapshot.specId, snapshot.references, executor);
+      return Optional.of(new DefaultParseResult(api, emptyList(), snapshot.warnings));
+    } catch (IOException | RuntimeException e) {
+      return Optional.empty();
+    }
+  }
+
+  public void put(ApiReference ref, ParserMode mode, ParseResult result) {
+    ApiSpecification api = result.get();
+    if (!result.success() || !(api instanceof AMFImpl)) {
+      return;
+    }
+    AMFImpl amfApi = (AMFImpl) api;
+    List<String> references = amfApi.getAllReferences();
+    String fingerprint = ContentFingerprint.of(ref, references);
+    if (fingerprint == null) {
+      return;
+    }
+    Path file = file(ref, mode);
+    Path temporary = null;
+    try {
+      Files.createDirectories(directory);
+      temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        writeString(out, VERSION);
+        writeString(out, ref.getLocation());
+        writeString(out, fingerprint);
+        writeString(out, amfApi.getSpecId());
+        writeStrings(out, references);
+        List<String> warnings = new ArrayList<>();
+        result.getWarnings().forEach(warning -> warnings.add(warning.cause()));
+        writeStrings(out, warnings);
+        writeString(out, amfApi.dumpResolvedAmf());
+      }
+      move(temporary, file);
+    } catch (IOException | RuntimeException e) {
+      // the api is parsed again next time
+    } finally {
+      if (temporary != null) {
+        try {
+          Files.deleteIfExists(temporary);
+        } catch (IOException e) {
+          // nothing to do
+        }
+      }
+    }
+  }
+
+  public void invalidateAll() throws IOException {
+    if (!Files.isDirectory(directory)) {
+      return;
+    }
+    try (Stream<Path> files = Files.list(directory)) {
+      for (Path file : (Iterable<Path>) files::iterator) {
+        if (file.getFileName().toString().endsWith(SUFFIX)) {
+          Files.deleteIfExists(file);
+        }
+      }
+    }
+  }
+
+  private Path file(ApiReference ref, ParserMode mode) {
+    String name = Hashing.sha256().hashString(mode.name() + ":" + ref.getLocation(), UTF_8).toString();
+    return directory.resolve(name + SUFFIX);
+  }
+
+  private static Snapshot read(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, READ)) {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      if (buffer.getInt() != MAGIC || buffer.getShort() != FORMAT_VERSION) {
+        throw new IOException("Not a snapshot: " + file);
+      }
+      Snapshot snapshot = new Snapshot();
+      snapshot.version = readString(buffer);
+      snapshot.location = readString(buffer);
+      snapshot.fingerprint = readString(buffer);
+      snapshot.specId = readString(buffer);
+      snapshot.references = readStrings(buffer);
+      snapshot.warnings = new ArrayList<>();
+      for (String warning : readStrings(buffer)) {
+        snapshot.warnings.add(new DefaultParsingIssue(warning));
+      }
+      snapshot.graph = readString(buffer);
+      return snapshot;
+    }
+  }
+
+  private static void move(Path source, Path target) throws IOException {
+    try {
+      Files.move(source, target, ATOMIC_MOVE, REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(source, target, REPLACE_EXISTING);
+    }
+  }
+
+  private static void writeStrings(DataOutputStream out, List<String> values) throws IOException {
+    out.writeInt(values.size());
+    for (String value : values) {
+      writeString(out, value);
+    }
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    byte[] bytes = value.getBytes(UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static List<String> readStrings(ByteBuffer buffer) throws IOException {
+    int size = buffer.getInt();
+    if (size < 0 || size > buffer.remaining()) {
+      throw new IOException("Corrupted snapshot");
+    }
+    List<String> values = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      values.add(readString(buffer));
+    }
+    return values;
+  }
+
+  private static String readString(ByteBuffer buffer) throws IOException {
+    int length = buffer.getInt();
+    if (length < 0 || length > buffer.remaining()) {
+      throw new IOException("Corrupted snapshot");
+    }
+    ByteBuffer slice = buffer.slice();
+    slice.limit(length);
+    buffer.position(buffer.position() + length);
+    return UTF_8.decode(slice).toString();
+  }
+
+  /**
+   * @return the implementation version of the library {@code type} belongs to or, when its manifest has none, the name of the jar
+   *         or directory it is loaded from
+   */
+  private static String version(Class<?> type) {
+    Package pkg = type.getPackage();
+    if (pkg != null && pkg.getImplementationVersion() != null) {
+      return pkg.getImplementationVersion();
+    }
+    CodeSource source = type.getProtectionDomain().getCodeSource();
+    try {
+      if (source != null && source.getLocation() != null) {
+        return Paths.get(source.getLocation().toURI()).getFileName().toString();
+      }
+    } catch (URISyntaxException | RuntimeException e) {
+      // not a local file
+    }
+    return type.getName();
+  }
+
+  private static final class Snapshot {
+
+    private String version;
+    private String location;
+    private String fingerprint;
+    private String specId;
+    private List<String> references;
+    private List<ParsingIssue> warnings;
+    private String graph;
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.parser.service.metrics;
+
+import org.mule.apikit.metrics.ParseMetrics;
+import org.mule.apikit.model.ApiSpecification;
+import org.mule.parser.service.result.ParseResult;
+import org.mule.parser.service.result.ParsingIssue;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A result carrying the metrics of the parse that produced it.
+ */
+public class MeasuredParseResult implements ParseResult {
+
+  private final ParseResult delegate;
+  private final ParseMetrics metrics;
+
+  public MeasuredParseResult(ParseResult delegate, ParseMetrics metrics) {
+    this.delegate = delegate;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public ApiSpecification get() {
+    return delegate.get();
+  }
+
+  @Override
+  public boolean success() {
+    return delegate.success();
+  }
+
+  @Override
+  public List<ParsingIssue> getErrors() {
+    return delegate.getErrors();
+  }
+
+  @Override
+  public List<ParsingIssue> getWarnings() {
+    return delegate.getWarnings();
+  }
+
+  @Override
+  public Optional<ParseMetrics> getMetrics() {
+    return Optional.of(metrics);
+  }
+
+  /**
+   * @return the result the metrics were attached to
+   */
+  public ParseResult getDelegate() {
+    return delegate;
+  }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.parser.service.metrics;
+
+import org.mule.apikit.metrics.ParseMetrics;
+import org.mule.apikit.model.api.ApiReference;
+import org.mule.parser.service.ParserMode;
+import org.mule.parser.service.result.ParseResult;
+
+/**
+ * Notified with the metrics of every api parsed by a {@link org.mule.parser.service.ParserService}. Implementations are
+ * discovered with {@link java.util.ServiceLoader}, registering one turns metrics collection on.
+ * <p>
+ * Listeners are called on the thread that completes the parse, so they should return quickly. Their failures are ignored.
+ */
+public interface ParseMetricsListener {
+
+  void onParse(ApiReference ref, ParserMode mode, ParseResult result, ParseMetrics metrics);
+
+}
@@ -6,9 +6,9 @@
  */
 package org.mule.parser.service.references;
 
+import org.mule.amf.impl.AMFParser;
 import org.mule.apikit.model.api.ApiReference;
 import org.mule.parser.service.result.ParseResult;
-import org.mule.parser.service.strategy.AMFParsingStrategy;
 
 import java.util.List;
 import java.util.concurrent.ScheduledExecutorService;
@@ -18,7 +18,7 @@ import static java.util.Collections.emptyList;
 public class ReferencesResolver {
 
   private ParseResult amfParseResult;
-  private static final AMFParsingStrategy amfParsingStrategy = new AMFParsingStrategy(false);
+  private ScheduledExecutorService executor;
 
   public ReferencesResolver() {}
 
@@ -27,7 +27,8 @@ public class ReferencesResolver {
   }
 
   /**
-   * if parseResult has been resolved, reuse that else parse ApiReference using AMF parser
+   * if parseResult has been resolved, reuse that else parse ApiReference using AMF parser, skipping resolution and validation as
+   * only the references are needed
    * 
    * @param reference
    * @return list of API Spec references
@@ -37,7 +38,8 @@ public class ReferencesResolver {
       if (amfParseResult != null) {
         return getReferences(amfParseResult);
       }
-      return getReferences(amfParsingStrategy.parse(reference));
+      AMFParser parser = executor != null ? new AMFParser(reference, executor) : new AMFParser(reference);
+      return parser.getReferences();
     } catch (Exception e) {
       // in case of exception return empty list, list of references is only used for console purposes
       return emptyList();
@@ -49,6 +51,6 @@ public class ReferencesResolver {
   }
 
   public void setExecutor(ScheduledExecutorService executor) {
-    amfParsingStrategy.setExecutor(executor);
+    this.executor = executor;
   }
 }
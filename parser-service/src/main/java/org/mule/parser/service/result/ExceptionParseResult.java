@@ -20,6 +20,10 @@ public class ExceptionParseResult implements ParseResult {
   private final ParsingIssue error;
 
   public ExceptionParseResult(Exception e) {
+    this((Throwable) e);
+  }
+
+  public ExceptionParseResult(Throwable e) {
     StringWriter writer = new StringWriter();
     e.printStackTrace(new PrintWriter(writer));
     this.error = new ExceptionParsingIssue("Error while parsing API: " + e.getMessage(), writer.toString());
@@ -6,9 +6,11 @@
  */
 package org.mule.parser.service.result;
 
+import org.mule.apikit.metrics.ParseMetrics;
 import org.mule.apikit.model.ApiSpecification;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ParseResult {
 
@@ -20,4 +22,12 @@ public interface ParseResult {
 
   List<ParsingIssue> getWarnings();
 
+  /**
+   * @return how long every phase of the parse took, when metrics collection is on (see
+   *         {@link org.mule.parser.service.ParserService})
+   */
+  default Optional<ParseMetrics> getMetrics() {
+    return Optional.empty();
+  }
+
 }
@@ -9,6 +9,8 @@ package org.mule.parser.service.strategy;
 import org.mule.amf.impl.AMFParser;
 import org.mule.amf.impl.model.AMFImpl;
 import org.mule.apikit.ApiParser;
+import org.mule.apikit.metrics.ParseMetrics;
+import org.mule.apikit.metrics.ParserEvents;
 import org.mule.apikit.model.api.ApiReference;
 import org.mule.apikit.validation.ApiValidationReport;
 import org.mule.parser.service.result.DefaultParseResult;
@@ -19,9 +21,13 @@ import org.mule.parser.service.result.UnsupportedParsingIssue;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ScheduledExecutorService;
 
 import static java.util.Collections.emptyList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.mule.parser.service.strategy.ParseEvents.endEvent;
 import static org.mule.parser.service.strategy.ValidationReportHelper.errors;
 import static org.mule.parser.service.strategy.ValidationReportHelper.warnings;
 
@@ -40,21 +46,71 @@ public class AMFParsingStrategy implements ParsingStrategy {
 
   @Override
   public ParseResult parse(ApiReference ref) {
+    return parse(ref, ParseMetrics.disabled());
+  }
+
+  @Override
+  public ParseResult parse(ApiReference ref, ParseMetrics metrics) {
+    ParserEvents.Event event = ParserEvents.get().beginParse("AMF", ref.getLocation());
+    return endEvent(event, parseApi(ref, metrics));
+  }
+
+  /**
+   * Same as {@link #parse(ApiReference, ParseMetrics)} without emitting a parse event.
+   */
+  ParseResult parseApi(ApiReference ref, ParseMetrics metrics) {
     try {
-      ApiParser parser = create(ref);
+      ApiParser parser = create(ref, metrics);
       if (!validate) {
         return new DefaultParseResult(parser.parse(), emptyList(), emptyList());
       }
       ApiValidationReport report = parser.validate();
-      AMFImpl apiSpec = (AMFImpl) parser.parse();
-      List<ParsingIssue> warnings = warnings(report);
-      warnings.addAll(getUnsupportedFeaturesWarnings(apiSpec));
-      return new DefaultParseResult(apiSpec, errors(report), warnings);
+      return createResult(report, (AMFImpl) parser.parse());
     } catch (Exception e) {
       return new ExceptionParseResult(e);
     }
   }
 
+  @Override
+  public CompletionStage<ParseResult> parseAsync(ApiReference ref) {
+    return parseAsync(ref, ParseMetrics.disabled());
+  }
+
+  @Override
+  public CompletionStage<ParseResult> parseAsync(ApiReference ref, ParseMetrics metrics) {
+    ParserEvents.Event event = ParserEvents.get().beginParse("AMF", ref.getLocation());
+    return parseApiAsync(ref, metrics).thenApply(result -> endEvent(event, result));
+  }
+
+  /**
+   * Same as {@link #parseAsync(ApiReference, ParseMetrics)} without emitting a parse event.
+   */
+  CompletionStage<ParseResult> parseApiAsync(ApiReference ref, ParseMetrics metrics) {
+    CompletionStage<ParseResult> result;
+    try {
+      AMFParser parser = create(ref, metrics);
+      if (!validate) {
+        result = parser.parseAsync().<ParseResult>thenApply(api -> new DefaultParseResult(api, emptyList(), emptyList()));
+      } else {
+        result = parser.validateAsync()
+            .thenCompose(report -> parser.parseAsync().thenApply(api -> createResult(report, (AMFImpl) api)));
+      }
+    } catch (Exception e) {
+      return completedFuture(new ExceptionParseResult(e));
+    }
+    return result.exceptionally(e -> new ExceptionParseResult(unwrap(e)));
+  }
+
+  private ParseResult createResult(ApiValidationReport report, AMFImpl apiSpec) {
+    List<ParsingIssue> warnings = warnings(report);
+    warnings.addAll(getUnsupportedFeaturesWarnings(apiSpec));
+    return new DefaultParseResult(apiSpec, errors(report), warnings);
+  }
+
+  private static Throwable unwrap(Throwable e) {
+    return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+  }
+
   private List<ParsingIssue> getUnsupportedFeaturesWarnings(AMFImpl apiSpecification) {
     List<ParsingIssue> unsupportedFeatureMessages = new ArrayList<>();
     if (apiSpecification.includesCallbacks()) {
@@ -68,7 +124,7 @@ public class AMFParsingStrategy implements ParsingStrategy {
     this.executor = executor;
   }
 
-  private AMFParser create(ApiReference ref) {
-    return new AMFParser(ref, executor);
+  private AMFParser create(ApiReference ref, ParseMetrics metrics) {
+    return metrics.isEnabled() ? new AMFParser(ref, executor, metrics) : new AMFParser(ref, executor);
   }
 }
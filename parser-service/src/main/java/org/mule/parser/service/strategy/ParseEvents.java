@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.parser.service.strategy;
+
+import org.mule.apikit.metrics.ParserEvents;
+import org.mule.parser.service.result.ParseResult;
+
+final class ParseEvents {
+
+  private ParseEvents() {}
+
+  /**
+   * Ends the given parse event with the outcome of {@code result}.
+   *
+   * @return {@code result}
+   */
+  static ParseResult endEvent(ParserEvents.Event event, ParseResult result) {
+    if (event.isRecording()) {
+      event.end(result.success(), result.getErrors().size() + result.getWarnings().size());
+    }
+    return result;
+  }
+}
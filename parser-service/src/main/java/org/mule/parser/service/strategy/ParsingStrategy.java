@@ -6,15 +6,42 @@
  */
 package org.mule.parser.service.strategy;
 
+import org.mule.apikit.metrics.ParseMetrics;
 import org.mule.apikit.model.api.ApiReference;
 import org.mule.parser.service.result.ParseResult;
 
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ScheduledExecutorService;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
 public interface ParsingStrategy {
 
   ParseResult parse(ApiReference ref);
 
+  /**
+   * Parses without parking the calling thread while waiting on the underlying parser. Strategies that have no asynchronous
+   * support parse synchronously and return a completed stage.
+   */
+  default CompletionStage<ParseResult> parseAsync(ApiReference ref) {
+    return completedFuture(parse(ref));
+  }
+
+  /**
+   * Same as {@link #parse(ApiReference)}, recording in {@code metrics} how long every phase takes. Strategies that are not able
+   * to measure their phases ignore it.
+   */
+  default ParseResult parse(ApiReference ref, ParseMetrics metrics) {
+    return parse(ref);
+  }
+
+  /**
+   * Same as {@link #parseAsync(ApiReference)}, recording in {@code metrics} how long every phase takes.
+   */
+  default CompletionStage<ParseResult> parseAsync(ApiReference ref, ParseMetrics metrics) {
+    return parseAsync(ref);
+  }
+
   void setExecutor(ScheduledExecutorService executor);
 
 }
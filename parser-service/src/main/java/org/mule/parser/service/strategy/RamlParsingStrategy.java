@@ -10,6 +10,8 @@ import org.mule.apikit.ApiParser;
 import org.mule.apikit.implv1.ParserWrapperV1;
 import org.mule.apikit.implv2.ParserWrapperV2;
 import org.mule.apikit.loader.ResourceLoader;
+import org.mule.apikit.metrics.ParseMetrics;
+import org.mule.apikit.metrics.ParserEvents;
 import org.mule.apikit.model.api.ApiReference;
 import org.mule.apikit.validation.ApiValidationReport;
 import org.mule.parser.service.references.ReferencesResolver;
@@ -17,11 +19,18 @@ import org.mule.parser.service.result.DefaultParseResult;
 import org.mule.parser.service.result.ExceptionParseResult;
 import org.mule.parser.service.result.ParseResult;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Supplier;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static org.mule.apikit.metrics.ParsePhase.MODEL_BUILD;
+import static org.mule.apikit.metrics.ParsePhase.PARSE;
+import static org.mule.apikit.metrics.ParsePhase.REFERENCE_RESOLUTION;
 import static org.mule.apikit.model.ApiVendor.RAML_08;
+import static org.mule.parser.service.strategy.ParseEvents.endEvent;
 import static org.mule.parser.service.strategy.ValidationReportHelper.errors;
 import static org.mule.parser.service.strategy.ValidationReportHelper.warnings;
 
@@ -39,10 +48,40 @@ public class RamlParsingStrategy implements ParsingStrategy {
 
   @Override
   public ParseResult parse(ApiReference ref) {
+    return parse(ref, ParseMetrics.disabled());
+  }
+
+  /**
+   * RAML parsers load, parse and validate the api at once, all of it is recorded as the parse phase.
+   */
+  @Override
+  public ParseResult parse(ApiReference ref, ParseMetrics metrics) {
+    ParserEvents.Event event = ParserEvents.get().beginParse("RAML", ref.getLocation());
+    return endEvent(event, parseApi(ref, metrics));
+  }
+
+  /**
+   * Same as {@link #parse(ApiReference, ParseMetrics)} without emitting a parse event.
+   */
+  ParseResult parseApi(ApiReference ref, ParseMetrics metrics) {
     try {
-      ApiParser parser = create(ref);
-      ApiValidationReport report = parser.validate();
-      return new DefaultParseResult(report.conforms() ? parser.parse() : null, errors(report), warnings(report));
+      ApiParser parser = create(ref, metrics);
+      ParseMetrics.Timer parseTimer = metrics.start(PARSE);
+      ApiValidationReport report;
+      try {
+        report = parser.validate();
+      } finally {
+        parseTimer.stop();
+      }
+      if (!report.conforms()) {
+        return new DefaultParseResult(null, errors(report), warnings(report));
+      }
+      ParseMetrics.Timer modelTimer = metrics.start(MODEL_BUILD);
+      try {
+        return new DefaultParseResult(parser.parse(), errors(report), warnings(report));
+      } finally {
+        modelTimer.stop();
+      }
     } catch (Exception e) {
       return new ExceptionParseResult(e);
     }
@@ -54,24 +93,37 @@ public class RamlParsingStrategy implements ParsingStrategy {
   }
 
   public ApiParser create(ApiReference ref) {
+    return create(ref, ParseMetrics.disabled());
+  }
+
+  private ApiParser create(ApiReference ref, ParseMetrics metrics) {
     String path = ref.getLocation();
     ResourceLoader apiLoader = ref.getResourceLoader().orElse(null);
 
-    List<String> references = referencesResolver.getReferences(ref);
+    ParseMetrics.Timer timer = metrics.start(REFERENCE_RESOLUTION);
+    List<String> references;
+    try {
+      references = referencesResolver.getReferences(ref);
+    } finally {
+      timer.stop();
+    }
+    Supplier<InputStream> rootContent = ref.getContent().isPresent() ? ref::resolve : null;
     if (RAML_08.equals(ref.getVendor())) {
-      return createParserV1(path, apiLoader, references);
+      return createParserV1(path, apiLoader, references, rootContent);
     } else {
-      return createRamlV2(path, apiLoader, references);
+      return createRamlV2(path, apiLoader, references, rootContent);
     }
   }
 
-  private ParserWrapperV1 createParserV1(String path, ResourceLoader loader, List<String> refs) {
-    return loader != null ? new ParserWrapperV1(path, singletonList(loader::getResourceAsStream), refs)
-        : new ParserWrapperV1(path, refs);
+  private ParserWrapperV1 createParserV1(String path, ResourceLoader loader, List<String> refs,
+                                         Supplier<InputStream> rootContent) {
+    return loader != null ? new ParserWrapperV1(path, singletonList(loader::getResourceAsStream), refs, rootContent)
+        : new ParserWrapperV1(path, emptyList(), refs, rootContent);
   }
 
-  private ParserWrapperV2 createRamlV2(String path, ResourceLoader loader, List<String> refs) {
-    return loader != null ? new ParserWrapperV2(path, singletonList(loader::getResourceAsStream), refs)
-        : new ParserWrapperV2(path, refs);
+  private ParserWrapperV2 createRamlV2(String path, ResourceLoader loader, List<String> refs,
+                                       Supplier<InputStream> rootContent) {
+    return loader != null ? new ParserWrapperV2(path, singletonList(loader::getResourceAsStream), refs, rootContent)
+        : new ParserWrapperV2(path, emptyList(), refs, rootContent);
   }
 }
@@ -8,6 +8,8 @@ package org.mule.parser.service.strategy;
 
 
 import com.google.common.collect.ImmutableList;
+import org.mule.apikit.metrics.ParseMetrics;
+import org.mule.apikit.metrics.ParserEvents;
 import org.mule.apikit.model.ApiFormat;
 import org.mule.apikit.model.ApiSpecification;
 import org.mule.apikit.model.api.ApiReference;
@@ -18,25 +20,52 @@ import org.mule.parser.service.result.ParseResult;
 import org.mule.parser.service.result.ParsingIssue;
 
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static java.util.Collections.emptyList;
+import static org.mule.parser.service.strategy.ParseEvents.endEvent;
 
 public class WithFallbackParsingStrategy implements ParsingStrategy {
 
-  private static final AMFParsingStrategy AMF_DELEGATE = new AMFParsingStrategy();
+  private final AMFParsingStrategy amfDelegate = new AMFParsingStrategy();
   private ScheduledExecutorService executor;
   private static final String AMF_TITLE = "AMF: ";
   private static final String RAML_TITLE = "RAML: ";
 
   @Override
   public ParseResult parse(ApiReference ref) {
-    ParseResult parseResult = AMF_DELEGATE.parse(ref);
+    return parse(ref, ParseMetrics.disabled());
+  }
+
+  /**
+   * The delegates don't emit parse events of their own, a single event covers the AMF parse and the fallback.
+   */
+  @Override
+  public ParseResult parse(ApiReference ref, ParseMetrics metrics) {
+    ParserEvents.Event event = ParserEvents.get().beginParse("AUTO", ref.getLocation());
+    return endEvent(event, fallbackIfNeeded(ref, amfDelegate.parseApi(ref, metrics), metrics));
+  }
+
+  @Override
+  public CompletionStage<ParseResult> parseAsync(ApiReference ref) {
+    return parseAsync(ref, ParseMetrics.disabled());
+  }
+
+  @Override
+  public CompletionStage<ParseResult> parseAsync(ApiReference ref, ParseMetrics metrics) {
+    ParserEvents.Event event = ParserEvents.get().beginParse("AUTO", ref.getLocation());
+    return amfDelegate.parseApiAsync(ref, metrics)
+        .thenApply(parseResult -> endEvent(event, fallbackIfNeeded(ref, parseResult, metrics)));
+  }
+
+  private ParseResult fallbackIfNeeded(ApiReference ref, ParseResult parseResult, ParseMetrics metrics) {
     if (!parseResult.success() && ApiFormat.RAML.name().equalsIgnoreCase(ref.getFormat())) {
+      metrics.recordFallback();
       ReferencesResolver referencesResolver = createReferencesResolver(parseResult);
-      ParseResult ramlResult = new RamlParsingStrategy(referencesResolver).parse(ref);
+      ParseResult ramlResult = new RamlParsingStrategy(referencesResolver).parseApi(ref, metrics);
       List<ParsingIssue> errors = joinParsingIssues(parseResult.getErrors(),
                                                     ramlResult.getErrors());
       List<ParsingIssue> warnings = joinParsingIssues(parseResult.getWarnings(),
@@ -77,7 +106,7 @@ public class WithFallbackParsingStrategy implements ParsingStrategy {
   @Override
   public void setExecutor(ScheduledExecutorService executor) {
     this.executor = executor;
-    AMF_DELEGATE.setExecutor(executor);
+    amfDelegate.setExecutor(executor);
   }
 
   public class FallbackParseResult implements ParseResult {
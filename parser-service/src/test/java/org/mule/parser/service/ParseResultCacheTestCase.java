@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.parser.service;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mule.apikit.loader.ResourceLoader;
+import org.mule.apikit.model.api.ApiReference;
+import org.mule.parser.service.cache.ParseResultCache;
+import org.mule.parser.service.result.ParseResult;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mule.parser.service.ParserMode.AMF;
+import static org.mule.parser.service.ParserMode.RAML;
+
+public class ParseResultCacheTestCase {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private File api;
+  private File include;
+
+  @Before
+  public void setUp() throws IOException, URISyntaxException {
+    Path source = Paths.get(getClass().getResource("/example-with-include").toURI());
+    File root = folder.newFolder("example-with-include");
+    File schemas = new File(root, "schemas");
+    schemas.mkdirs();
+    api = new File(root, "example-with-include.raml");
+    include = new File(schemas, "team.raml");
+    Files.copy(source.resolve("example-with-include.raml"), api.toPath());
+    Files.copy(source.resolve("schemas/team.raml"), include.toPath());
+    Files.copy(source.resolve("schemas/atom.xsd"), new File(schemas, "atom.xsd").toPath());
+  }
+
+  @Test
+  public void hitReturnsCachedResult() {
+    ParserService service = new ParserService(null, new ParseResultCache());
+
+    ParseResult first = service.parse(ApiReference.create(api.getAbsolutePath()), AMF);
+    ParseResult second = service.parse(ApiReference.create(api.getAbsolutePath()), AMF);
+
+    assertThat(first.success(), is(true));
+    assertThat(second, sameInstance(first));
+  }
+
+  @Test
+  public void modeIsPartOfTheKey() {
+    ParserService service = new ParserService(null, new ParseResultCache());
+
+    ParseResult amf = service.parse(ApiReference.create(api.getAbsolutePath()), AMF);
+    ParseResult raml = service.parse(ApiReference.create(api.getAbsolutePath()), RAML);
+
+    assertThat(raml, not(sameInstance(amf)));
+  }
+
+  @Test
+  public void resourceLoaderIsPartOfTheKey() {
+    ParserService service = new ParserService(null, new ParseResultCache());
+    ResourceLoader loader = path -> new File(api.getParentFile(), path).toURI();
+
+    ParseResult withoutLoader = service.parse(ApiReference.create(api.getAbsolutePath()), AMF);
+    ParseResult withLoader = service.parse(ApiReference.create(api.getAbsolutePath(), loader), AMF);
+
+    assertThat(withLoader.success(), is(true));
+    assertThat(withLoader, not(sameInstance(withoutLoader)));
+    assertThat(service.parse(ApiReference.create(api.getAbsolutePath(), loader), AMF), sameInstance(withLoader));
+  }
+
+  @Test
+  public void changedReferenceInvalidatesEntry() throws IOException {
+    ParseResultCache cache = new ParseResultCache();
+    ParserService service = new ParserService(null, cache);
+
+    ParseResult first = service.parse(ApiReference.create(api.getAbsolutePath()), AMF);
+    Files.write(include.toPath(), "\n# changed\n".getBytes(UTF_8), APPEND);
+    ParseResult second = service.parse(ApiReference.create(api.getAbsolutePath()), AMF);
+
+    assertThat(second.success(), is(true));
+    assertThat(second, not(sameInstance(first)));
+    assertThat(service.parse(ApiReference.create(api.getAbsolutePath()), AMF), sameInstance(second));
+    assertThat(cache.size(), is(1L));
+  }
+
+  @Test
+  public void failedResultsAreNotCached() {
+    ParseResultCache cache = new ParseResultCache();
+    String invalid = ResourcesUtils.resource(ParseResultCacheTestCase.class, "/with-invalid-errors.raml");
+
+    new ParserService(null, cache).parse(ApiReference.create(invalid), AMF);
+
+    assertThat(cache.size(), is(0L));
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.parser.service;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mule.apikit.metrics.ParserEvents;
+import org.mule.apikit.model.ApiSpecification;
+import org.mule.apikit.model.api.ApiReference;
+import org.mule.parser.service.result.ParseResult;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Parse and validation events are enabled for this module's tests through the surefire configuration, they are only defined when
+ * the JVM has Flight Recorder.
+ */
+public class ParserEventsTestCase {
+
+  private static final String PARSE_EVENT = "org.mule.apikit.Parse";
+  private static final String VALIDATION_EVENT = "org.mule.apikit.Validation";
+  private static final String PAYLOAD = "{\"a\": \"aaaa\", \"b\": \"bbb\"}";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Before
+  public void flightRecorderIsAvailable() {
+    assumeTrue(ParserEvents.get().isEnabled());
+  }
+
+  @Test
+  public void parseAndValidationEventsAreRecorded() throws Exception {
+    String location = resource("/api-10.raml");
+
+    ParseResult[] result = new ParseResult[1];
+    List<RecordedEvent> events = record(() -> {
+      result[0] = new ParserService().parse(ApiReference.create(location), ParserMode.AMF);
+      ApiSpecification api = result[0].get();
+      api.getResource("/payload").getAction("POST").getBody().get("application/json").validate(PAYLOAD);
+      api.getResource("/categories/{id1}/{id2}/{id3}").getResolvedUriParameters().get("id1").validate("first");
+      return null;
+    });
+
+    List<RecordedEvent> parses = named(events, PARSE_EVENT);
+    assertThat(parses.size(), is(1));
+    assertThat(parses.get(0).getString("strategy"), is("AMF"));
+    assertThat(parses.get(0).getString("apiLocation"), is(location));
+    assertThat(parses.get(0).getBoolean("success"), is(true));
+    assertThat(parses.get(0).getLong("issues"), is((long) result[0].getWarnings().size()));
+
+    List<RecordedEvent> validations = named(events, VALIDATION_EVENT);
+    assertThat(validations.size(), is(2));
+    RecordedEvent payload = validations.get(0);
+    assertThat(payload.getString("kind"), is("payload"));
+    assertThat(payload.getString("target"), is("application/json"));
+    assertThat(payload.getString("apiLocation"), is(location));
+    assertThat(payload.getBoolean("success"), is(true));
+    assertThat(payload.getLong("size"), is((long) PAYLOAD.length()));
+    RecordedEvent parameter = validations.get(1);
+    assertThat(parameter.getString("kind"), is("parameter"));
+    assertThat(parameter.getString("target"), is("id1"));
+    assertThat(parameter.getString("apiLocation"), is(location));
+    assertThat(parameter.getLong("size"), is(5L));
+  }
+
+  @Test
+  public void fallbackIsRecordedAsASingleParse() throws Exception {
+    String location = resource("/api-with-fallback-parser.raml");
+
+    ParseResult[] result = new ParseResult[1];
+    List<RecordedEvent> events = record(() -> result[0] = new ParserService().parse(ApiReference.create(location)));
+
+    List<RecordedEvent> parses = named(events, PARSE_EVENT);
+    assertThat(parses.size(), is(1));
+    assertThat(parses.get(0).getString("strategy"), is("AUTO"));
+    assertThat(parses.get(0).getString("apiLocation"), is(location));
+    assertThat(parses.get(0).getBoolean("success"), is(result[0].success()));
+  }
+
+  private List<RecordedEvent> record(Callable<?> action) throws Exception {
+    Path dump = folder.newFile("events.jfr").toPath();
+    try (Recording recording = new Recording()) {
+      recording.enable(PARSE_EVENT);
+      recording.enable(VALIDATION_EVENT);
+      recording.start();
+      action.call();
+      recording.stop();
+      recording.dump(dump);
+    }
+    return readEvents(dump);
+  }
+
+  private static List<RecordedEvent> readEvents(Path dump) throws IOException {
+    return RecordingFile.readAllEvents(dump);
+  }
+
+  private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+    return events.stream().filter(event -> event.getEventType().getName().equals(name))
+        .sorted((first, second) -> first.getStartTime().compareTo(second.getStartTime())).collect(toList());
+  }
+
+  private static String resource(final String path) {
+    return ResourcesUtils.resource(ParserEventsTestCase.class, path);
+  }
+}
@@ -10,16 +10,36 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.mule.apikit.ApiType;
+import org.mule.apikit.metrics.ParseMetrics;
 import org.mule.apikit.model.api.ApiReference;
 import org.mule.parser.service.result.ParseResult;
 import org.mule.parser.service.result.ParsingIssue;
 
 import java.util.List;
-
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static java.util.Arrays.asList;
+import static java.util.concurrent.Executors.newScheduledThreadPool;
+import static java.util.concurrent.Executors.unconfigurableScheduledExecutorService;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.core.StringContains.containsString;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
+import static org.mule.apikit.metrics.ParsePhase.MODEL_BUILD;
+import static org.mule.apikit.metrics.ParsePhase.PARSE;
+import static org.mule.apikit.metrics.ParsePhase.RESOURCE_LOADING;
+import static org.mule.apikit.metrics.ParsePhase.TRANSFORM;
+import static org.mule.apikit.metrics.ParsePhase.VALIDATION;
 import static org.mule.apikit.model.ApiVendor.OAS_20;
 import static org.mule.apikit.model.ApiVendor.OAS_30;
 import static org.mule.apikit.model.ApiVendor.RAML_08;
@@ -168,6 +188,151 @@ public class ParserServiceTestCase {
     assertThat(wrapper.getErrors().size(), is(1));
   }
 
+  // === ASYNC ===
+
+  @Test
+  public void parseAsyncAmf() throws Exception {
+    ParseResult result = new ParserService().parseAsync(ApiReference.create(resource("/oas/oas3.yaml")), ParserMode.AMF)
+        .toCompletableFuture().get();
+
+    assertThat(result.success(), is(true));
+    assertThat(result.get().getApiVendor(), is(OAS_30));
+  }
+
+  @Test
+  public void parseAsyncFallback() throws Exception {
+    ParseResult result = new ParserService().parseAsync(ApiReference.create(resource("/api-with-fallback-parser.raml")))
+        .toCompletableFuture().get();
+
+    assertThat(result.success(), is(true));
+    assertThat(result.getWarnings().get(0).cause(), containsString("AMF parsing failed, fallback into RAML parser"));
+  }
+
+  @Test
+  public void parseAsyncMissingApi() throws Exception {
+    ParseResult result = new ParserService().parseAsync(ApiReference.create(resource("/api-10.raml") + ".missing"),
+                                                        ParserMode.AMF)
+        .toCompletableFuture().get();
+
+    assertThat(result.success(), is(false));
+  }
+
+  // === BATCH ===
+
+  @Test
+  public void parseAllKeepsOrder() {
+    List<ApiReference> refs = asList(ApiReference.create(resource("/api-08.raml")),
+                                     ApiReference.create(resource("/api-10.raml")),
+                                     ApiReference.create(resource("/oas/petstore.json")),
+                                     ApiReference.create(resource("/with-invalid-errors.raml")));
+
+    Map<ApiReference, ParseResult> results = new ParserService().parseAll(refs, ParserMode.AMF);
+
+    assertThat(results.keySet(), contains(refs.toArray()));
+    assertThat(results.get(refs.get(0)).get().getApiVendor(), is(RAML_08));
+    assertThat(results.get(refs.get(1)).get().getApiVendor(), is(RAML_10));
+    assertThat(results.get(refs.get(2)).get().getApiVendor(), is(OAS_20));
+    assertThat(results.get(refs.get(3)).success(), is(false));
+  }
+
+  @Test
+  public void parseAllWithProvidedExecutor() {
+    ScheduledExecutorService executor = newScheduledThreadPool(4);
+    try {
+      List<ApiReference> refs = asList(ApiReference.create(resource("/api-10.raml")),
+                                       ApiReference.create(resource("/oas/oas3.yaml")));
+
+      Map<ApiReference, ParseResult> results = new ParserService(executor).parseAll(refs, ParserMode.AMF);
+
+      assertThat(results.get(refs.get(0)).success(), is(true));
+      assertThat(results.get(refs.get(1)).get().getApiVendor(), is(OAS_30));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void parseAllWithSingleThreadedExecutor() throws Exception {
+    assertParseAllCompletes(newScheduledThreadPool(1));
+  }
+
+  @Test
+  public void parseAllWithExecutorOfUnknownSize() throws Exception {
+    assertParseAllCompletes(unconfigurableScheduledExecutorService(newScheduledThreadPool(1)));
+  }
+
+  private static void assertParseAllCompletes(ScheduledExecutorService executor) throws Exception {
+    try {
+      List<ApiReference> refs = asList(ApiReference.create(resource("/api-08.raml")),
+                                       ApiReference.create(resource("/api-10.raml")),
+                                       ApiReference.create(resource("/oas/petstore.json")),
+                                       ApiReference.create(resource("/oas/oas3.yaml")));
+
+      Map<ApiReference, CompletableFuture<ParseResult>> results =
+          new ParserService(executor).parseAllAsync(refs, ParserMode.AMF);
+
+      for (CompletableFuture<ParseResult> result : results.values()) {
+        assertThat(result.get(1, MINUTES).success(), is(true));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void createdStrategiesAreNotShared() {
+    for (ParserMode mode : ParserMode.values()) {
+      assertThat(mode.createStrategy(), not(sameInstance(mode.getStrategy())));
+      assertThat(mode.createStrategy(), not(sameInstance(mode.createStrategy())));
+    }
+  }
+
+  // === METRICS ===
+
+  @Test
+  public void metricsAreOffByDefault() {
+    ParseResult result = new ParserService().parse(ApiReference.create(resource("/api-10.raml")), ParserMode.AMF);
+
+    assertThat(result.getMetrics().isPresent(), is(false));
+  }
+
+  @Test
+  public void amfPhasesAreMeasured() {
+    System.setProperty("mule.apikit.parser.metrics", "true");
+    try {
+      ParseResult result = new ParserService()
+          .parse(ApiReference.create(resource("/example-with-include/example-with-include.raml")), ParserMode.AMF);
+
+      ParseMetrics metrics = result.getMetrics().get();
+      assertThat(result.success(), is(true));
+      assertThat(metrics.getWallTime(RESOURCE_LOADING, NANOSECONDS), greaterThan(0L));
+      assertThat(metrics.getWallTime(PARSE, NANOSECONDS), greaterThan(0L));
+      assertThat(metrics.getWallTime(TRANSFORM, NANOSECONDS), greaterThan(0L));
+      assertThat(metrics.getWallTime(VALIDATION, NANOSECONDS), greaterThan(0L));
+      assertThat(metrics.getWallTime(MODEL_BUILD, NANOSECONDS), greaterThan(0L));
+      assertThat(metrics.getResourcesLoaded(), greaterThanOrEqualTo(2L));
+      assertThat(metrics.getBytesLoaded(), greaterThan(0L));
+      assertThat(metrics.isFallbackUsed(), is(false));
+    } finally {
+      System.clearProperty("mule.apikit.parser.metrics");
+    }
+  }
+
+  @Test
+  public void fallbackIsMeasured() throws Exception {
+    System.setProperty("mule.apikit.parser.metrics", "true");
+    try {
+      ParseResult result = new ParserService().parseAsync(ApiReference.create(resource("/api-with-fallback-parser.raml")))
+          .toCompletableFuture().get();
+
+      assertThat(result.success(), is(true));
+      assertThat(result.getMetrics().get().isFallbackUsed(), is(true));
+      assertThat(result.getMetrics().get().getWallTime(PARSE, NANOSECONDS), greaterThan(0L));
+    } finally {
+      System.clearProperty("mule.apikit.parser.metrics");
+    }
+  }
+
   // ==================
 
   private static String resource(final String path) {
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.parser.service;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mule.amf.impl.model.AMFImpl;
+import org.mule.apikit.model.ApiSpecification;
+import org.mule.apikit.model.api.ApiReference;
+import org.mule.parser.service.cache.SnapshotStore;
+import org.mule.parser.service.result.ParseResult;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.Assert.assertThat;
+import static org.mule.parser.service.ParserMode.AMF;
+
+public class SnapshotStoreTestCase {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private File api;
+  private File include;
+  private Path snapshots;
+
+  @Before
+  public void setUp() throws IOException, URISyntaxException {
+    Path source = Paths.get(getClass().getResource("/example-with-include").toURI());
+    File root = folder.newFolder("example-with-include");
+    File schemas = new File(root, "schemas");
+    schemas.mkdirs();
+    api = new File(root, "example-with-include.raml");
+    include = new File(schemas, "team.raml");
+    Files.copy(source.resolve("example-with-include.raml"), api.toPath());
+    Files.copy(source.resolve("schemas/team.raml"), include.toPath());
+    Files.copy(source.resolve("schemas/atom.xsd"), new File(schemas, "atom.xsd").toPath());
+    snapshots = folder.newFolder("snapshots").toPath();
+  }
+
+  @Test
+  public void snapshotIsLoadedByANewService() throws IOException {
+    ParseResult parsed = parse();
+    Path snapshot = singleSnapshot();
+    byte[] content = Files.readAllBytes(snapshot);
+    // a parsed api rewrites its snapshot, a loaded one leaves it untouched
+    FileTime written = FileTime.fromMillis(Files.getLastModifiedTime(snapshot).toMillis() - 60000);
+    Files.setLastModifiedTime(snapshot, written);
+
+    ParseResult loaded = parse();
+
+    assertThat(loaded.success(), is(true));
+    assertSameApi(loaded.get(), parsed.get());
+    assertThat(loaded.getWarnings().size(), is(parsed.getWarnings().size()));
+    assertThat(singleSnapshot(), is(snapshot));
+    assertThat(Files.getLastModifiedTime(snapshot), is(written));
+    assertThat(Files.readAllBytes(snapshot), is(content));
+  }
+
+  @Test
+  public void storingASnapshotDoesNotBuildTheConsoleModel() throws IOException {
+    ParseResult parsed = parse();
+
+    singleSnapshot();
+    assertThat(((AMFImpl) parsed.get()).isConsoleModelBuilt(), is(false));
+  }
+
+  @Test
+  public void snapshotRecordsTheLibraryVersions() throws IOException {
+    parse();
+    ByteBuffer header = ByteBuffer.wrap(Files.readAllBytes(singleSnapshot()));
+    header.position(Integer.BYTES + Short.BYTES);
+    byte[] version = new byte[header.getInt()];
+    header.get(version);
+
+    String[] versions = new String(version, UTF_8).split("/");
+
+    assertThat(versions.length, is(3));
+    for (String library : versions) {
+      assertThat(library.isEmpty(), is(false));
+      assertThat(library, not(is("null")));
+    }
+  }
+
+  @Test
+  public void changedReferenceIsParsedAgain() throws IOException {
+    parse();
+    byte[] before = Files.readAllBytes(singleSnapshot());
+    Files.write(include.toPath(), "\n# changed\n".getBytes(UTF_8), APPEND);
+
+    ParseResult result = parse();
+
+    assertThat(result.success(), is(true));
+    assertThat(Files.readAllBytes(singleSnapshot()), not(is(before)));
+  }
+
+  @Test
+  public void corruptedSnapshotIsIgnored() throws IOException {
+    ParseResult parsed = parse();
+    Files.write(singleSnapshot(), new byte[] {1, 2, 3});
+
+    ParseResult result = parse();
+
+    assertThat(result.success(), is(true));
+    assertSameApi(result.get(), parsed.get());
+  }
+
+  private ParseResult parse() {
+    return new ParserService(null, null, new SnapshotStore(snapshots)).parse(ApiReference.create(api.getAbsolutePath()), AMF);
+  }
+
+  private Path singleSnapshot() throws IOException {
+    try (Stream<Path> files = Files.list(snapshots)) {
+      List<Path> all = files.collect(toList());
+      assertThat(all.size(), is(1));
+      return all.get(0);
+    }
+  }
+
+  private static void assertSameApi(ApiSpecification actual, ApiSpecification expected) {
+    assertThat(actual, notNullValue());
+    assertThat(actual.getResources().keySet(), is(expected.getResources().keySet()));
+    assertThat(actual.getAllReferences(), is(expected.getAllReferences()));
+    assertThat(actual.getResource("/types-test").getAction("POST").getBody().keySet(),
+               is(expected.getResource("/types-test").getAction("POST").getBody().keySet()));
+  }
+}
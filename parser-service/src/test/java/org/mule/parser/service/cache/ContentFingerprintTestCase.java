@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.parser.service.cache;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mule.apikit.model.api.ApiReference;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+public class ContentFingerprintTestCase {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void relativeReferenceIsResolvedAgainstTheRootDocument() throws IOException {
+    File api = write("api.raml", "#%RAML 1.0\ntitle: api\ntypes:\n  Team: !include schemas/team.raml\n");
+    File team = write("schemas/team.raml", "#%RAML 1.0 DataType\ntype: string\n");
+    ApiReference ref = ApiReference.create(api.getAbsolutePath());
+
+    String before = ContentFingerprint.of(ref, singletonList("schemas/team.raml"));
+    Files.write(team.toPath(), "#%RAML 1.0 DataType\ntype: integer\n".getBytes(UTF_8));
+
+    assertThat(ContentFingerprint.of(ref, singletonList("schemas/team.raml")), not(is(before)));
+  }
+
+  private File write(String path, String content) throws IOException {
+    File file = new File(folder.getRoot(), path);
+    file.getParentFile().mkdirs();
+    Files.write(file.toPath(), content.getBytes(UTF_8));
+    return file;
+  }
+}
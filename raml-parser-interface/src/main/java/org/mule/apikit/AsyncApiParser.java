@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.apikit;
+
+import org.mule.apikit.model.ApiSpecification;
+import org.mule.apikit.validation.ApiValidationReport;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * {@link ApiParser} able to parse and validate without blocking the calling thread.
+ */
+public interface AsyncApiParser extends ApiParser {
+
+  CompletionStage<ApiValidationReport> validateAsync();
+
+  CompletionStage<ApiSpecification> parseAsync();
+
+}
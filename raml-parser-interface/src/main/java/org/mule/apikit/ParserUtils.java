@@ -10,6 +10,10 @@ import org.mule.apikit.model.parameter.Parameter;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
 
 public class ParserUtils {
 
@@ -86,6 +90,62 @@ public class ParserUtils {
     return queryStringYaml.toString();
   }
 
+  /**
+   * Validates a query string against its facets without building the YAML document of {@link #queryStringAsYamlValue(Map, Map)}:
+   * every facet validates its own values and required facets must be present.
+   * <p>
+   * Only valid for query strings declared as a plain object, i.e. without object level facets or compositions. The result is
+   * empty when the values can't be validated this way (null values or several values for a facet that is neither an array nor a
+   * scalar), callers must then fall back to validating the YAML document.
+   *
+   * @param facets facets of the query string
+   * @param queryParams collection of parameters that are part of the query string
+   * @return whether the query string is valid, or empty if it couldn't be decided
+   */
+  public static Optional<Boolean> validateQueryString(Map<String, Parameter> facets, Map<String, Collection<?>> queryParams) {
+    for (String property : queryParams.keySet()) {
+      if (!facets.containsKey(property)) {
+        // same as validating the empty object queryStringAsYamlValue ends up in
+        return of(facets.values().stream().noneMatch(Parameter::isRequired));
+      }
+    }
+    for (Map.Entry<String, Parameter> facet : facets.entrySet()) {
+      if (facet.getValue().isRequired() && !queryParams.containsKey(facet.getKey())) {
+        return of(false);
+      }
+    }
+
+    boolean decided = true;
+    for (Map.Entry<String, Collection<?>> queryParam : queryParams.entrySet()) {
+      Optional<Boolean> valid = validateFacet(facets.get(queryParam.getKey()), queryParam.getValue());
+      if (!valid.isPresent()) {
+        decided = false;
+      } else if (!valid.get()) {
+        return valid;
+      }
+    }
+    return decided ? of(true) : empty();
+  }
+
+  private static Optional<Boolean> validateFacet(Parameter facet, Collection<?> values) {
+    if (values == null || (facet.isNullable() && isNull(values))) {
+      return empty();
+    }
+    if (facet.isArray()) {
+      int size = values.size();
+      if (facet.getMinItems().map(min -> size < min).orElse(false)
+          || facet.getMaxItems().map(max -> size > max).orElse(false)) {
+        return of(false);
+      }
+      return of(facet.validateArray(values));
+    }
+    if (values.size() != 1) {
+      return facet.isScalar() && !values.isEmpty() ? of(false) : empty();
+    }
+    Object value = values.iterator().next();
+    return value != null ? of(facet.validate(value.toString())) : empty();
+  }
+
   /**
    * Check if the values for the query parameter are considered null. Query parameters are considered null when the whole
    * collection is null, has a single null value or has a single 'null' string value
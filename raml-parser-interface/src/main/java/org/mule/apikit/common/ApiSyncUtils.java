@@ -6,9 +6,8 @@
  */
 package org.mule.apikit.common;
 
-
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import static org.mule.apikit.common.ExchangeModulesIndex.EXCHANGE_MODULES_FOLDER;
+import static org.mule.apikit.common.ExchangeModulesIndex.moduleEnd;
 
 public class ApiSyncUtils {
 
@@ -21,7 +20,6 @@ public class ApiSyncUtils {
   final static String EXCHANGE_ROOT_RAML_TAG = "\"main\":\"";
   public static final String EXCHANGE_MODULE_REGEX = "exchange_modules/([^/]+)/([^/]+)/([^/]+)/(.*)";
   public static final String API_SYNC_REGEX = "resource::([^:]+):([^:]+):([^:]+):(.*):(.*):(.*)";
-  private static final Pattern EXCHANGE_PATTERN = Pattern.compile(EXCHANGE_MODULE_REGEX);
 
 
   private ApiSyncUtils() {}
@@ -38,8 +36,19 @@ public class ApiSyncUtils {
     return apiSyncResource.substring(0, apiSyncResource.lastIndexOf(":") + 1);
   }
 
+  /**
+   * @return whether the path has an {@code exchange_modules/<group>/<artifact>/<version>/} part, as matched by
+   *         {@link #EXCHANGE_MODULE_REGEX}
+   */
   public static boolean isExchangeModules(final String path) {
-    return EXCHANGE_PATTERN.matcher(path).find();
+    int index = path.indexOf(EXCHANGE_MODULES_FOLDER);
+    while (index >= 0) {
+      if (moduleEnd(path, index + EXCHANGE_MODULES_FOLDER.length()) >= 0) {
+        return true;
+      }
+      index = path.indexOf(EXCHANGE_MODULES_FOLDER, index + 1);
+    }
+    return false;
   }
 
   public static String getMainApi(String exchangeJson) {
@@ -49,19 +58,33 @@ public class ApiSyncUtils {
   }
 
   public static String toApiSyncResource(String resource) {
-    String apiSyncResource = null;
     resource = resource.substring(resource.lastIndexOf(EXCHANGE_MODULES));
-    Matcher exchangeMatcher = EXCHANGE_PATTERN.matcher(resource);
-    if (exchangeMatcher.find()) {
-      String groupId = exchangeMatcher.group(1);
-      String artifactId = exchangeMatcher.group(2);
-      String version = exchangeMatcher.group(3);
-      String filePath = exchangeMatcher.group(4);
-      apiSyncResource = String.format(RESOURCE_FORMAT, groupId, artifactId,
-                                      version, RAML_FRAGMENT_CLASSIFIER,
-                                      EXCHANGE_TYPE, filePath);
+    if (!resource.startsWith(EXCHANGE_MODULES_FOLDER)) {
+      return null;
+    }
+    int groupStart = EXCHANGE_MODULES_FOLDER.length();
+    int versionEnd = moduleEnd(resource, groupStart);
+    if (versionEnd < 0) {
+      return null;
+    }
+    int groupEnd = resource.indexOf('/', groupStart);
+    int artifactEnd = resource.indexOf('/', groupEnd + 1);
+    return API_SYNC_PROTOCOL + resource.substring(groupStart, groupEnd)
+        + ':' + resource.substring(groupEnd + 1, artifactEnd)
+        + ':' + resource.substring(artifactEnd + 1, versionEnd)
+        + ':' + RAML_FRAGMENT_CLASSIFIER + ':' + EXCHANGE_TYPE
+        + ':' + resource.substring(versionEnd + 1, lineEnd(resource, versionEnd + 1));
+  }
+
+  // the file path matched by EXCHANGE_MODULE_REGEX stops at the first line terminator
+  private static int lineEnd(String value, int start) {
+    for (int i = start; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+        return i;
+      }
     }
-    return apiSyncResource;
+    return value.length();
   }
 
   public static boolean compareResourcesLocation(String resourceA, String resourceB, Boolean checkVersion) {
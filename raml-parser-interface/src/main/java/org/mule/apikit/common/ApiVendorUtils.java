@@ -6,14 +6,21 @@
  */
 package org.mule.apikit.common;
 
+import org.mule.apikit.model.ApiFormat;
 import org.mule.apikit.model.ApiVendor;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
 import java.util.regex.Pattern;
 
+import static java.lang.Math.min;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.util.Arrays.copyOf;
+
 import static org.mule.apikit.model.ApiVendor.OAS_20;
 import static org.mule.apikit.model.ApiVendor.OAS_30;
 import static org.mule.apikit.model.ApiVendor.RAML_08;
@@ -49,9 +56,183 @@ public class ApiVendorUtils {
   private static final Pattern OPENAPI_PATTERN = Pattern.compile(OPENAPI_REGEX);
   private static final Pattern SWAGGER_PATTERN = Pattern.compile(SWAGGER_REGEX);
 
+  /**
+   * Maximum number of bytes scanned before falling back to matching the whole input line by line
+   */
+  private static final int DETECTION_LIMIT = getDetectionLimit();
+  private static final byte[] RAML_10_HEADER = HEADER_RAML_10.getBytes(US_ASCII);
+  private static final byte[] RAML_08_HEADER = HEADER_RAML_08.getBytes(US_ASCII);
+  private static final byte[] OPENAPI_KEY = "openapi".getBytes(US_ASCII);
+  private static final byte[] OPENAPI_VERSION = "3.0.".getBytes(US_ASCII);
+  private static final byte[] SWAGGER_KEY = "swagger".getBytes(US_ASCII);
+  private static final byte[] SWAGGER_VERSION = "2.0".getBytes(US_ASCII);
+
   private ApiVendorUtils() {}
 
+  private static int getDetectionLimit() {
+    Integer limit = Integer.getInteger("mule.apikit.parser.vendorDetectionLimit");
+    return limit != null && limit > 0 ? limit : 64 * 1024;
+  }
+
+  /**
+   * Deduces the vendor from the RAML header or the {@code openapi}/{@code swagger} version declaration, RAML 1.0 when none is
+   * found. Up to {@code -Dmule.apikit.parser.vendorDetectionLimit} bytes (64 KiB by default) are scanned in a single pass, the
+   * rest of the input is only read when the vendor is not found within them.
+   */
   public static ApiVendor deduceApiVendor(final InputStream is) {
+    return deduceApiVendor(is, DETECTION_LIMIT);
+  }
+
+  /**
+   * Deduces the vendor of an api written in the given format: only the header is read for RAML, the whole content is scanned as
+   * in {@link #deduceApiVendor(InputStream)} for any other format.
+   */
+  public static ApiVendor deduceApiVendor(final String format, final InputStream is) {
+    if (ApiFormat.RAML.name().equalsIgnoreCase(format)) {
+      final ApiVendor ramlVendor = getRamlVendor(is);
+      return ramlVendor != null ? ramlVendor : RAML_10;
+    }
+    return deduceApiVendor(is);
+  }
+
+  static ApiVendor deduceApiVendor(final InputStream is, int limit) {
+    try (InputStream in = is) {
+      byte[] prefix = new byte[min(limit, 8 * 1024)];
+      int length = 0;
+      int read;
+      while (length < limit) {
+        if (length == prefix.length) {
+          prefix = copyOf(prefix, min(limit, length * 2));
+        }
+        if ((read = in.read(prefix, length, prefix.length - length)) == -1) {
+          break;
+        }
+        length += read;
+      }
+      ApiVendor vendor = scan(prefix, length);
+      if (vendor != null) {
+        return vendor;
+      }
+      if (length < limit) {
+        return RAML_10;
+      }
+      return deduceApiVendorByLine(new SequenceInputStream(new ByteArrayInputStream(prefix, 0, length), in));
+    } catch (final IOException ignored) {
+    }
+    return RAML_10;
+  }
+
+  /**
+   * Same rules as {@link #deduceApiVendorByLine(InputStream)}, except that a {@code #} only starts a comment at the beginning of
+   * a line or after a blank, as in YAML, so JSON references such as {@code "#/definitions/pet"} are not taken as comments.
+   *
+   * @return the vendor, or {@code null} if {@code length} bytes are not enough to tell
+   */
+  private static ApiVendor scan(byte[] buffer, int length) {
+    int start = length >= 3 && (buffer[0] & 0xFF) == 0xEF && (buffer[1] & 0xFF) == 0xBB && (buffer[2] & 0xFF) == 0xBF ? 3 : 0;
+    int header = firstNonBlankLine(buffer, start, length);
+    if (startsWithIgnoreCase(buffer, header, length, RAML_08_HEADER)) {
+      return RAML_08;
+    }
+    if (startsWithIgnoreCase(buffer, header, length, RAML_10_HEADER)) {
+      return RAML_10;
+    }
+
+    boolean comment = false;
+    for (int i = start; i < length; i++) {
+      byte b = buffer[i];
+      if (b == '\n' || b == '\r') {
+        comment = false;
+      } else if (comment) {
+        continue;
+      } else if (b == '#') {
+        comment = i == start || isBlank(buffer[i - 1]) || buffer[i - 1] == '\n' || buffer[i - 1] == '\r';
+      } else if (b == 's' && isVersionDeclaration(buffer, i, length, SWAGGER_KEY, SWAGGER_VERSION)) {
+        return OAS_20;
+      } else if (b == 'o' && isVersionDeclaration(buffer, i, length, OPENAPI_KEY, OPENAPI_VERSION)) {
+        return OAS_30;
+      }
+    }
+    return null;
+  }
+
+  private static int firstNonBlankLine(byte[] buffer, int start, int length) {
+    int lineStart = start;
+    for (int i = start; i < length; i++) {
+      byte b = buffer[i];
+      if (b == '\n' || b == '\r') {
+        lineStart = i + 1;
+      } else if ((b & 0xFF) > ' ') {
+        return lineStart;
+      }
+    }
+    return length;
+  }
+
+  /**
+   * Matches {@code key}, an optional closing double quote, a colon, an optional opening quote and {@code version}, with blanks in
+   * between. An {@code openapi} version must be followed by at least one digit.
+   */
+  private static boolean isVersionDeclaration(byte[] buffer, int start, int length, byte[] key, byte[] version) {
+    if (!regionMatches(buffer, start, length, key)) {
+      return false;
+    }
+    int i = skipBlanks(buffer, start + key.length, length);
+    if (i < length && buffer[i] == '"') {
+      i = skipBlanks(buffer, i + 1, length);
+    }
+    if (i >= length || buffer[i] != ':') {
+      return false;
+    }
+    i = skipBlanks(buffer, i + 1, length);
+    if (i < length && (buffer[i] == '"' || buffer[i] == '\'')) {
+      i = skipBlanks(buffer, i + 1, length);
+    }
+    if (!regionMatches(buffer, i, length, version)) {
+      return false;
+    }
+    i += version.length;
+    return key != OPENAPI_KEY || i < length && buffer[i] >= '0' && buffer[i] <= '9';
+  }
+
+  private static int skipBlanks(byte[] buffer, int start, int length) {
+    int i = start;
+    while (i < length && isBlank(buffer[i])) {
+      i++;
+    }
+    return i;
+  }
+
+  private static boolean isBlank(byte b) {
+    return b == ' ' || b == '\t' || b == '\f' || b == 0x0B;
+  }
+
+  private static boolean regionMatches(byte[] buffer, int start, int length, byte[] expected) {
+    if (start + expected.length > length) {
+      return false;
+    }
+    for (int i = 0; i < expected.length; i++) {
+      if (buffer[start + i] != expected[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean startsWithIgnoreCase(byte[] buffer, int start, int length, byte[] expected) {
+    if (start + expected.length > length) {
+      return false;
+    }
+    for (int i = 0; i < expected.length; i++) {
+      byte b = buffer[start + i];
+      if ((b >= 'a' && b <= 'z' ? b - ('a' - 'A') : b) != expected[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  static ApiVendor deduceApiVendorByLine(final InputStream is) {
     try (BufferedReader in = new BufferedReader(new InputStreamReader(is))) {
       String inputLine = getFirstLine(in);
       ApiVendor vendor = getRamlVendor(inputLine);
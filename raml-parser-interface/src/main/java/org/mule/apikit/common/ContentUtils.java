@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.apikit.common;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.charset.CodingErrorAction.REPLACE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+import static org.mule.apikit.common.ReferencesUtils.isWindows;
+
+/**
+ * Reads api documents into read-only byte buffers and decodes them without going through intermediate streams.
+ */
+public class ContentUtils {
+
+  /**
+   * Files larger than this are memory-mapped, smaller ones are read into the heap as mapping them costs more than it saves.
+   */
+  public static final int MAP_THRESHOLD = 256 * 1024;
+
+  // a mapping is only released when its buffer is garbage collected, and Windows doesn't let a mapped file be deleted or
+  // replaced until then, which would break redeploying the application
+  private static final boolean MAP_FILES = !isWindows();
+
+  private ContentUtils() {}
+
+  /**
+   * @return the content of the file as a read-only buffer, memory-mapped if the file is larger than {@link #MAP_THRESHOLD} and
+   *         the platform is not Windows. The mapping outlives the returned buffer until it is garbage collected.
+   */
+  public static ByteBuffer read(File file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file.toPath(), READ)) {
+      long size = channel.size();
+      if (MAP_FILES && size > MAP_THRESHOLD) {
+        return channel.map(READ_ONLY, 0, size).asReadOnlyBuffer();
+      }
+      ByteBuffer bytes = ByteBuffer.allocate((int) size);
+      while (bytes.hasRemaining() && channel.read(bytes) != -1) {
+        // keep reading
+      }
+      bytes.flip();
+      return bytes.asReadOnlyBuffer();
+    }
+  }
+
+  /**
+   * Decodes the remaining content of the buffer as UTF-8 straight into a string, malformed input is replaced. The position of the
+   * given buffer is not modified.
+   */
+  public static String decodeUtf8(ByteBuffer content) {
+    CharsetDecoder decoder = UTF_8.newDecoder().onMalformedInput(REPLACE).onUnmappableCharacter(REPLACE);
+    try {
+      CharBuffer chars = decoder.decode(content.duplicate());
+      return chars.toString();
+    } catch (CharacterCodingException e) {
+      // cannot happen when replacing
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * @return a stream over the remaining content of the buffer, reading from it doesn't modify the position of the given buffer
+   */
+  public static InputStream asInputStream(ByteBuffer content) {
+    return new ByteBufferInputStream(content.duplicate());
+  }
+
+  private static final class ByteBufferInputStream extends InputStream {
+
+    private final ByteBuffer buffer;
+
+    ByteBufferInputStream(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+      if (len == 0) {
+        return 0;
+      }
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      int count = Math.min(len, buffer.remaining());
+      buffer.get(b, off, count);
+      return count;
+    }
+
+    @Override
+    public long skip(long n) {
+      int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+      buffer.position(buffer.position() + count);
+      return count;
+    }
+
+    @Override
+    public int available() {
+      return buffer.remaining();
+    }
+  }
+}
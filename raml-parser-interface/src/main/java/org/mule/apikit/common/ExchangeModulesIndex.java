@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.apikit.common;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableMap;
+import static org.mule.apikit.common.ApiSyncUtils.EXCHANGE_MODULES;
+
+/**
+ * Modules of an {@code exchange_modules} folder keyed by {@code <group>/<artifact>/<version>}, so the path of an Exchange
+ * dependency is resolved with a hash lookup instead of being matched against regular expressions on every fetch.
+ * <p>
+ * The folder is walked once, when the index is created, and modules added later are not seen. Instances are immutable.
+ */
+public final class ExchangeModulesIndex {
+
+  static final String EXCHANGE_MODULES_FOLDER = EXCHANGE_MODULES + "/";
+  private static final String NESTED_EXCHANGE_MODULES_FOLDER = "/" + EXCHANGE_MODULES_FOLDER;
+
+  private final Map<String, Path> modules;
+
+  private ExchangeModulesIndex(Map<String, Path> modules) {
+    this.modules = unmodifiableMap(modules);
+  }
+
+  /**
+   * Walks the {@code exchange_modules} folder of the given directory, an empty index is returned if there is none.
+   */
+  public static ExchangeModulesIndex of(Path rootDirectory) {
+    Map<String, Path> modules = new HashMap<>();
+    for (Path group : listDirectories(rootDirectory.resolve(EXCHANGE_MODULES))) {
+      for (Path artifact : listDirectories(group)) {
+        for (Path version : listDirectories(artifact)) {
+          modules.put(group.getFileName() + "/" + artifact.getFileName() + "/" + version.getFileName(), version);
+        }
+      }
+    }
+    return new ExchangeModulesIndex(modules);
+  }
+
+  private static List<Path> listDirectories(Path directory) {
+    if (!Files.isDirectory(directory)) {
+      return emptyList();
+    }
+    List<Path> directories = new ArrayList<>();
+    try (DirectoryStream<Path> children = Files.newDirectoryStream(directory, Files::isDirectory)) {
+      children.forEach(directories::add);
+    } catch (IOException e) {
+      return emptyList();
+    }
+    return directories;
+  }
+
+  /**
+   * @param dependencyPath path of a dependency as returned by {@link #getDependencyPath(String)}
+   * @return the file of the dependency, {@code null} if its module is not in the index
+   */
+  public Path resolve(String dependencyPath) {
+    int start = dependencyPath.startsWith(NESTED_EXCHANGE_MODULES_FOLDER) ? NESTED_EXCHANGE_MODULES_FOLDER.length()
+        : dependencyPath.startsWith(EXCHANGE_MODULES_FOLDER) ? EXCHANGE_MODULES_FOLDER.length() : -1;
+    int moduleEnd = start < 0 ? -1 : moduleEnd(dependencyPath, start);
+    if (moduleEnd < 0) {
+      return null;
+    }
+    Path module = modules.get(dependencyPath.substring(start, moduleEnd));
+    if (module == null) {
+      return null;
+    }
+    int fileStart = moduleEnd + 1;
+    while (fileStart < dependencyPath.length() && dependencyPath.charAt(fileStart) == '/') {
+      fileStart++;
+    }
+    return module.resolve(dependencyPath.substring(fileStart));
+  }
+
+  public int size() {
+    return modules.size();
+  }
+
+  /**
+   * @return the part of the path starting at its last {@code exchange_modules} folder, the whole path if it starts with one, or
+   *         {@code null} if the path doesn't point into an {@code exchange_modules} folder
+   */
+  public static String getDependencyPath(String path) {
+    String folder;
+    if (path.startsWith(EXCHANGE_MODULES_FOLDER)) {
+      folder = EXCHANGE_MODULES_FOLDER;
+    } else if (path.contains(NESTED_EXCHANGE_MODULES_FOLDER)) {
+      folder = NESTED_EXCHANGE_MODULES_FOLDER;
+    } else {
+      return null;
+    }
+    int index = path.lastIndexOf(folder);
+    return index <= 0 ? path : path.substring(index);
+  }
+
+  /**
+   * @return the index of the slash closing the {@code <group>/<artifact>/<version>} segments found at {@code start}, -1 if they
+   *         are not all there
+   */
+  static int moduleEnd(String path, int start) {
+    int end = start - 1;
+    for (int i = 0; i < 3; i++) {
+      int segmentStart = end + 1;
+      end = path.indexOf('/', segmentStart);
+      if (end <= segmentStart) {
+        return -1;
+      }
+    }
+    return end;
+  }
+}
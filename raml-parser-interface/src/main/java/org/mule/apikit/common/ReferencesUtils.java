@@ -31,7 +31,7 @@ public class ReferencesUtils {
     return OS;
   }
 
-  private static boolean isWindows() {
+  static boolean isWindows() {
     return getOsName().startsWith("Windows");
   }
 
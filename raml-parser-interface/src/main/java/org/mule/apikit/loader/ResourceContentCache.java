@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.apikit.loader;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import org.apache.commons.io.IOUtils;
+import org.mule.apikit.common.ContentUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+
+import static org.mule.apikit.common.ContentUtils.asInputStream;
+
+/**
+ * Content of the resources read through {@link ResourceLoader#getResourceAsStream(String)} and by the AMF resource loaders, keyed
+ * by resolved uri so a document referenced many times, or by both the AMF and the RAML parsers, is read from disk or from its jar
+ * only once. The file loaders of the RAML parsers read their documents directly.
+ * <p>
+ * The cache is disabled unless the {@value #MULE_APIKIT_PARSER_RESOURCE_CACHE_BYTES} system property sets the maximum total size
+ * of the cached content, least recently used entries are evicted first. Only {@code file} and {@code jar:file} resources are
+ * cached, and an entry is only served while the size and modification time of its file, or archive, are the ones it was read
+ * with. Any other resource is read every time.
+ */
+public final class ResourceContentCache {
+
+  public static final String MULE_APIKIT_PARSER_RESOURCE_CACHE_BYTES = "mule.apikit.parser.resourceCacheBytes";
+
+  private static final String FILE_SCHEME = "file";
+  private static final String JAR_SCHEME = "jar";
+  private static final String JAR_SEPARATOR = "!/";
+
+  private static final ResourceContentCache INSTANCE =
+      new ResourceContentCache(Long.getLong(MULE_APIKIT_PARSER_RESOURCE_CACHE_BYTES, 0L));
+
+  private final Cache<String, Entry> entries;
+  private final boolean enabled;
+
+  ResourceContentCache(long maximumBytes) {
+    this.enabled = maximumBytes > 0;
+    this.entries = CacheBuilder.newBuilder()
+        // a single segment, otherwise the maximum is split between segments and large entries are evicted right away
+        .concurrencyLevel(1)
+        .maximumWeight(Math.max(maximumBytes, 0))
+        .weigher((String uri, Entry entry) -> entry.content.remaining())
+        .recordStats()
+        .build();
+  }
+
+  public static ResourceContentCache getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * @param uri absolute uri of the resource
+   * @return a new stream over the content of the resource
+   * @throws IOException if the resource cannot be read
+   */
+  public InputStream open(URI uri) throws IOException {
+    File source = enabled ? getSourceFile(uri) : null;
+    return source != null ? asInputStream(get(uri, source)) : openConnection(uri);
+  }
+
+  /**
+   * Same as {@link #open(URI)} but returns the whole content as a read-only buffer, files larger than
+   * {@link ContentUtils#MAP_THRESHOLD} are memory-mapped instead of being copied into the heap.
+   */
+  public ByteBuffer read(URI uri) throws IOException {
+    File source = getSourceFile(uri);
+    if (source == null) {
+      try (InputStream in = openConnection(uri)) {
+        return ByteBuffer.wrap(IOUtils.toByteArray(in)).asReadOnlyBuffer();
+      }
+    }
+    if (!enabled) {
+      return load(uri, source).content;
+    }
+    return get(uri, source).duplicate();
+  }
+
+  private ByteBuffer get(URI uri, File source) throws IOException {
+    String key = uri.toString();
+    Entry entry = entries.getIfPresent(key);
+    if (entry == null || !entry.isUpToDate(source)) {
+      entry = load(uri, source);
+      entries.put(key, entry);
+    }
+    return entry.content;
+  }
+
+  private static Entry load(URI uri, File source) throws IOException {
+    long lastModified = source.lastModified();
+    long length = source.length();
+    if (FILE_SCHEME.equalsIgnoreCase(uri.getScheme())) {
+      return new Entry(ContentUtils.read(source), lastModified, length);
+    }
+    try (InputStream in = openConnection(uri)) {
+      return new Entry(ByteBuffer.wrap(IOUtils.toByteArray(in)).asReadOnlyBuffer(), lastModified, length);
+    }
+  }
+
+  public void invalidateAll() {
+    entries.invalidateAll();
+  }
+
+  /**
+   * @return hit, miss and eviction counters of the cache
+   */
+  public CacheStats stats() {
+    return entries.stats();
+  }
+
+  private static InputStream openConnection(URI uri) throws IOException {
+    URLConnection connection = uri.toURL().openConnection();
+    connection.setUseCaches(false);
+    return connection.getInputStream();
+  }
+
+  /**
+   * @return the file whose size and modification time tell whether the resource changed, {@code null} if it cannot be cached
+   */
+  private static File getSourceFile(URI uri) {
+    String scheme = uri.getScheme();
+    try {
+      if (FILE_SCHEME.equalsIgnoreCase(scheme)) {
+        return new File(uri);
+      }
+      if (JAR_SCHEME.equalsIgnoreCase(scheme)) {
+        String path = uri.getRawSchemeSpecificPart();
+        int separator = path.indexOf(JAR_SEPARATOR);
+        if (separator > 0 && path.regionMatches(true, 0, FILE_SCHEME + ":", 0, FILE_SCHEME.length() + 1)) {
+          return new File(new URI(path.substring(0, separator)));
+        }
+      }
+    } catch (Exception e) {
+      // not a local file, not cached
+    }
+    return null;
+  }
+
+  private static final class Entry {
+
+    private final ByteBuffer content;
+    private final long lastModified;
+    private final long length;
+
+    Entry(ByteBuffer content, long lastModified, long length) {
+      this.content = content;
+      this.lastModified = lastModified;
+      this.length = length;
+    }
+
+    boolean isUpToDate(File source) {
+      return source.lastModified() == lastModified && source.length() == length;
+    }
+  }
+}
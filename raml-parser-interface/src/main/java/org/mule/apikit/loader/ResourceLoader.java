@@ -9,8 +9,6 @@ package org.mule.apikit.loader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
-import java.net.URL;
-import java.net.URLConnection;
 
 /**
  * Represents a way of getting resources from the application
@@ -26,16 +24,17 @@ public interface ResourceLoader {
    */
   URI getResource(String relativePath);
 
+  /**
+   * @return the content of the resource, read through the {@link ResourceContentCache} when it is enabled, or {@code null} if it
+   *         cannot be read
+   */
   default InputStream getResourceAsStream(String relativePath) {
     URI uri = getResource(relativePath);
     if (uri == null) {
       return null;
     }
     try {
-      URL url = uri.toURL();
-      URLConnection urlConnection = url.openConnection();
-      urlConnection.setUseCaches(false);
-      return urlConnection.getInputStream();
+      return ResourceContentCache.getInstance().open(uri);
     } catch (IOException e) {
       return null;
     }
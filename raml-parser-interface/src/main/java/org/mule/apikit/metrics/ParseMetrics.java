@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.apikit.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Time spent in every {@link ParsePhase} of a parse, plus how many resources were loaded and whether the parse had to fall back
+ * to another parser.
+ * <p>
+ * Wall time is always recorded. CPU time and allocated bytes are taken from the current thread, so they are only recorded for
+ * phases that start and stop on the same thread and when the JVM supports measuring them. Instances are thread-safe.
+ */
+public final class ParseMetrics {
+
+  private static final ParseMetrics DISABLED = new ParseMetrics(false);
+  private static final Timer NO_TIMER = new Timer(null, null, 0, 0, 0, -1);
+  private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+  private static final boolean CPU_TIME = THREADS.isCurrentThreadCpuTimeSupported();
+  private static final boolean ALLOCATED_BYTES = isAllocatedBytesSupported();
+
+  private final boolean enabled;
+  private final AtomicLongArray wallNanos = new AtomicLongArray(ParsePhase.values().length);
+  private final AtomicLongArray cpuNanos = new AtomicLongArray(ParsePhase.values().length);
+  private final AtomicLongArray allocatedBytes = new AtomicLongArray(ParsePhase.values().length);
+  private final LongAdder resourcesLoaded = new LongAdder();
+  private final LongAdder bytesLoaded = new LongAdder();
+  private volatile boolean fallbackUsed;
+
+  public ParseMetrics() {
+    this(true);
+  }
+
+  private ParseMetrics(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * @return metrics that record nothing, for parses nobody is going to look at
+   */
+  public static ParseMetrics disabled() {
+    return DISABLED;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Starts timing the given phase, the time is recorded once the returned timer is stopped.
+   */
+  public Timer start(ParsePhase phase) {
+    if (!enabled) {
+      return NO_TIMER;
+    }
+    long threadId = Thread.currentThread().getId();
+    return new Timer(this, phase, System.nanoTime(), currentThreadCpuTime(), currentThreadAllocatedBytes(), threadId);
+  }
+
+  public void recordResourceLoaded(long bytes) {
+    if (enabled) {
+      resourcesLoaded.increment();
+      bytesLoaded.add(bytes);
+    }
+  }
+
+  public void recordFallback() {
+    if (enabled) {
+      fallbackUsed = true;
+    }
+  }
+
+  public long getWallTime(ParsePhase phase, TimeUnit unit) {
+    return unit.convert(wallNanos.get(phase.ordinal()), NANOSECONDS);
+  }
+
+  public long getCpuTime(ParsePhase phase, TimeUnit unit) {
+    return unit.convert(cpuNanos.get(phase.ordinal()), NANOSECONDS);
+  }
+
+  public long getAllocatedBytes(ParsePhase phase) {
+    return allocatedBytes.get(phase.ordinal());
+  }
+
+  public long getResourcesLoaded() {
+    return resourcesLoaded.sum();
+  }
+
+  public long getBytesLoaded() {
+    return bytesLoaded.sum();
+  }
+
+  public boolean isFallbackUsed() {
+    return fallbackUsed;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("ParseMetrics {");
+    for (ParsePhase phase : ParsePhase.values()) {
+      builder.append(phase).append(": wall=").append(getWallTime(phase, MILLISECONDS)).append("ms cpu=")
+          .append(getCpuTime(phase, MILLISECONDS)).append("ms allocated=").append(getAllocatedBytes(phase)).append("B, ");
+    }
+    return builder.append("resources=").append(getResourcesLoaded()).append(", bytes=").append(getBytesLoaded())
+        .append(", fallback=").append(fallbackUsed).append('}').toString();
+  }
+
+  private static long currentThreadCpuTime() {
+    return CPU_TIME ? THREADS.getCurrentThreadCpuTime() : 0;
+  }
+
+  private static long currentThreadAllocatedBytes() {
+    return ALLOCATED_BYTES ? ((com.sun.management.ThreadMXBean) THREADS).getThreadAllocatedBytes(Thread.currentThread().getId())
+        : 0;
+  }
+
+  private static boolean isAllocatedBytesSupported() {
+    try {
+      return THREADS instanceof com.sun.management.ThreadMXBean
+          && ((com.sun.management.ThreadMXBean) THREADS).isThreadAllocatedMemorySupported()
+          && ((com.sun.management.ThreadMXBean) THREADS).isThreadAllocatedMemoryEnabled();
+    } catch (LinkageError e) {
+      // not a HotSpot based JVM
+      return false;
+    }
+  }
+
+  /**
+   * Running measure of a phase. Stopping it more than once records the phase once.
+   */
+  public static final class Timer {
+
+    private final ParseMetrics metrics;
+    private final ParsePhase phase;
+    private final long startWall;
+    private final long startCpu;
+    private final long startAllocated;
+    private final long threadId;
+    private volatile boolean stopped;
+
+    private Timer(ParseMetrics metrics, ParsePhase phase, long startWall, long startCpu, long startAllocated, long threadId) {
+      this.metrics = metrics;
+      this.phase = phase;
+      this.startWall = startWall;
+      this.startCpu = startCpu;
+      this.startAllocated = startAllocated;
+      this.threadId = threadId;
+    }
+
+    public void stop() {
+      if (metrics == null || stopped) {
+        return;
+      }
+      stopped = true;
+      int index = phase.ordinal();
+      metrics.wallNanos.addAndGet(index, System.nanoTime() - startWall);
+      if (Thread.currentThread().getId() == threadId) {
+        metrics.cpuNanos.addAndGet(index, currentThreadCpuTime() - startCpu);
+        metrics.allocatedBytes.addAndGet(index, currentThreadAllocatedBytes() - startAllocated);
+      }
+    }
+  }
+}
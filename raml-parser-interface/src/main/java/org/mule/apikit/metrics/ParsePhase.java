@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.apikit.metrics;
+
+/**
+ * Phases timed while parsing an api. Phases may nest, e.g. resource loading happens while AMF parses the api, so their times are
+ * not meant to be added up.
+ */
+public enum ParsePhase {
+
+  /**
+   * Fetching the api and every document it references
+   */
+  RESOURCE_LOADING,
+
+  /**
+   * Parsing the api into its unresolved model
+   */
+  PARSE,
+
+  /**
+   * Resolving the parsed model, i.e. AMF editing pipeline
+   */
+  TRANSFORM,
+
+  /**
+   * Validating the api
+   */
+  VALIDATION,
+
+  /**
+   * Building the {@link org.mule.apikit.model.ApiSpecification} out of the resolved model
+   */
+  MODEL_BUILD,
+
+  /**
+   * Collecting the locations of the documents referenced by the api
+   */
+  REFERENCE_RESOLUTION
+}
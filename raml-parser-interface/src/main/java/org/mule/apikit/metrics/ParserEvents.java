@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.apikit.metrics;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.util.Arrays.asList;
+
+/**
+ * Java Flight Recorder events emitted while parsing apis and validating requests against them.
+ * <p>
+ * Events are off unless {@code -Dmule.apikit.parser.jfr} is set. They are defined at runtime through {@code jdk.jfr.EventFactory}
+ * so this library still runs on JVMs without the {@code jdk.jfr} module, where they are always off. When off, {@code begin}
+ * methods return a shared event that does nothing.
+ */
+public final class ParserEvents {
+
+  private static final String MULE_APIKIT_PARSER_JFR = "mule.apikit.parser.jfr";
+  private static final String[] CATEGORY = {"Mule", "APIkit"};
+  private static final Event NO_EVENT = new Event(null, null, null);
+  private static final ParserEvents INSTANCE = new ParserEvents(Boolean.getBoolean(MULE_APIKIT_PARSER_JFR));
+
+  private final EventType parse;
+  private final EventType validation;
+
+  ParserEvents(boolean enabled) {
+    EventType parseType = null;
+    EventType validationType = null;
+    if (enabled) {
+      try {
+        parseType = new EventType("org.mule.apikit.Parse", "APIkit Parse", "Parsing of an api", "issues",
+                                  "strategy", "apiLocation");
+        validationType = new EventType("org.mule.apikit.Validation", "APIkit Validation",
+                                       "Validation of a request or response value against the api", "size",
+                                       "kind", "target", "apiLocation");
+      } catch (Throwable e) {
+        // JFR is not available in this JVM
+        parseType = null;
+        validationType = null;
+      }
+    }
+    this.parse = parseType;
+    this.validation = validationType;
+  }
+
+  public static ParserEvents get() {
+    return INSTANCE;
+  }
+
+  public boolean isEnabled() {
+    return parse != null;
+  }
+
+  /**
+   * @param strategy name of the parser, e.g. {@code AMF}
+   */
+  public Event beginParse(String strategy, String apiLocation) {
+    return parse != null ? parse.begin(strategy, apiLocation) : NO_EVENT;
+  }
+
+  /**
+   * @param kind what is validated, e.g. {@code payload}
+   * @param target media type or name of the validated element
+   * @param apiLocation location of the api the element belongs to, may be {@code null}
+   */
+  public Event beginValidation(String kind, String target, String apiLocation) {
+    return validation != null ? validation.begin(kind, target, apiLocation) : NO_EVENT;
+  }
+
+  /**
+   * An event being timed, committed when ended.
+   */
+  public static final class Event {
+
+    private final EventType type;
+    private final Object event;
+    private final String[] values;
+
+    private Event(EventType type, Object event, String[] values) {
+      this.type = type;
+      this.event = event;
+      this.values = values;
+    }
+
+    /**
+     * @return whether the event is committed when ended, callers may skip computing its values otherwise
+     */
+    public boolean isRecording() {
+      return event != null;
+    }
+
+    /**
+     * @param success whether the api parsed, or the value was valid
+     * @param size number of issues found parsing the api, or size of the validated value: its length, or its number of parameters
+     *        for a query string
+     */
+    public void end(boolean success, long size) {
+      if (event != null) {
+        type.end(this, success, size);
+      }
+    }
+  }
+
+  private static final class EventType {
+
+    private final Object factory;
+    private final MethodHandle newEvent;
+    private final MethodHandle begin;
+    private final MethodHandle end;
+    private final MethodHandle shouldCommit;
+    private final MethodHandle commit;
+    private final MethodHandle set;
+    private final int successIndex;
+
+    EventType(String name, String label, String description, String sizeField, String... stringFields) throws Throwable {
+      ClassLoader loader = ParserEvents.class.getClassLoader();
+      Class<?> eventClass = Class.forName("jdk.jfr.Event", false, loader);
+      Class<?> factoryClass = Class.forName("jdk.jfr.EventFactory", false, loader);
+      Class<?> annotationElementClass = Class.forName("jdk.jfr.AnnotationElement", false, loader);
+      Class<?> valueDescriptorClass = Class.forName("jdk.jfr.ValueDescriptor", false, loader);
+      Constructor<?> annotationElement = annotationElementClass.getConstructor(Class.class, Object.class);
+      Constructor<?> valueDescriptor = valueDescriptorClass.getConstructor(Class.class, String.class);
+
+      List<Object> annotations = asList(annotationElement.newInstance(annotation("jdk.jfr.Name", loader), name),
+                                        annotationElement.newInstance(annotation("jdk.jfr.Label", loader), label),
+                                        annotationElement.newInstance(annotation("jdk.jfr.Description", loader), description),
+                                        annotationElement.newInstance(annotation("jdk.jfr.Category", loader), CATEGORY));
+      List<Object> fields = new ArrayList<>();
+      for (String field : stringFields) {
+        fields.add(valueDescriptor.newInstance(String.class, field));
+      }
+      this.successIndex = stringFields.length;
+      fields.add(valueDescriptor.newInstance(boolean.class, "success"));
+      fields.add(valueDescriptor.newInstance(long.class, sizeField));
+
+      this.factory = factoryClass.getMethod("create", List.class, List.class).invoke(null, annotations, fields);
+
+      MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+      this.newEvent = lookup.findVirtual(factoryClass, "newEvent", methodType(eventClass));
+      this.begin = lookup.findVirtual(eventClass, "begin", methodType(void.class));
+      this.end = lookup.findVirtual(eventClass, "end", methodType(void.class));
+      this.shouldCommit = lookup.findVirtual(eventClass, "shouldCommit", methodType(boolean.class));
+      this.commit = lookup.findVirtual(eventClass, "commit", methodType(void.class));
+      this.set = lookup.findVirtual(eventClass, "set", methodType(void.class, int.class, Object.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Annotation> annotation(String name, ClassLoader loader) throws ClassNotFoundException {
+      return (Class<? extends Annotation>) Class.forName(name, false, loader);
+    }
+
+    Event begin(String... values) {
+      try {
+        Object event = newEvent.invoke(factory);
+        begin.invoke(event);
+        return new Event(this, event, values);
+      } catch (Throwable e) {
+        return NO_EVENT;
+      }
+    }
+
+    void end(Event event, boolean success, long size) {
+      try {
+        end.invoke(event.event);
+        if ((boolean) shouldCommit.invoke(event.event)) {
+          for (int i = 0; i < successIndex; i++) {
+            set.invoke(event.event, i, event.values[i]);
+          }
+          set.invoke(event.event, successIndex, success);
+          set.invoke(event.event, successIndex + 1, size);
+          commit.invoke(event.event);
+        }
+      } catch (Throwable e) {
+        // events must never fail the instrumented operation
+      }
+    }
+  }
+}
@@ -47,4 +47,16 @@ public interface ApiSpecification extends Serializable {
 
   ApiType getType();
 
+  /**
+   * Eagerly loads every lazily built part of the model (resources, actions, bodies, responses and parameters), so the model can
+   * be shared by many threads without any of them paying for, or racing on, the first access. Implementations keeping other
+   * lazily built structures may load them too.
+   *
+   * @return this api
+   */
+  default ApiSpecification materialize() {
+    ModelMaterializer.materialize(this);
+    return this;
+  }
+
 }
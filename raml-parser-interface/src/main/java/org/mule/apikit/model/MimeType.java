@@ -8,10 +8,18 @@ package org.mule.apikit.model;
 
 import org.mule.apikit.model.parameter.Parameter;
 import org.mule.apikit.validation.ApiValidationResult;
+import org.mule.apikit.validation.ExceptionApiValidationResult;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
 import java.util.List;
 import java.util.Map;
 
+import static java.util.Collections.singletonList;
+
 public interface MimeType {
 
   Object getCompiledSchema();
@@ -30,4 +38,58 @@ public interface MimeType {
   Object getInstance();
 
   List<ApiValidationResult> validate(String payload);
+
+  /**
+   * Validates the payload read from the given reader, which is not closed.
+   *
+   * @see #validate(Reader, boolean)
+   */
+  default List<ApiValidationResult> validate(Reader payload) {
+    return validate(payload, false);
+  }
+
+  /**
+   * Validates the payload read from the given reader, which is not closed.
+   * <p>
+   * Implementations able to validate the payload while it is read don't keep it in memory. Otherwise it is read fully and
+   * validated as {@link #validate(String)} does.
+   *
+   * @param failFast whether to stop validating after the first error
+   * @return the validation errors, at most one if {@code failFast}
+   * @since 3.0.0
+   */
+  default List<ApiValidationResult> validate(Reader payload, boolean failFast) {
+    String value;
+    try {
+      StringBuilder builder = new StringBuilder();
+      char[] buffer = new char[8192];
+      int read;
+      while ((read = payload.read(buffer)) != -1) {
+        builder.append(buffer, 0, read);
+      }
+      value = builder.toString();
+    } catch (IOException e) {
+      return singletonList(new ExceptionApiValidationResult(e));
+    }
+    List<ApiValidationResult> results = validate(value);
+    return failFast && results.size() > 1 ? results.subList(0, 1) : results;
+  }
+
+  /**
+   * Validates the payload read from the given stream, which is not closed.
+   *
+   * @see #validate(Reader, boolean)
+   */
+  default List<ApiValidationResult> validate(InputStream payload, Charset charset) {
+    return validate(new InputStreamReader(payload, charset), false);
+  }
+
+  /**
+   * Validates the payload read from the given stream, which is not closed.
+   *
+   * @see #validate(Reader, boolean)
+   */
+  default List<ApiValidationResult> validate(InputStream payload, Charset charset, boolean failFast) {
+    return validate(new InputStreamReader(payload, charset), failFast);
+  }
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.apikit.model;
+
+import org.mule.apikit.model.parameter.Parameter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Walks an api model touching every lazily loaded part of it, see {@link ApiSpecification#materialize()}.
+ */
+final class ModelMaterializer {
+
+  private ModelMaterializer() {}
+
+  static void materialize(ApiSpecification api) {
+    resources(api.getResources());
+  }
+
+  private static void resources(Map<String, Resource> resources) {
+    if (resources == null) {
+      return;
+    }
+    for (Resource resource : resources.values()) {
+      parameters(resource.getResolvedUriParameters());
+      Map<ActionType, Action> actions = resource.getActions();
+      if (actions != null) {
+        actions.values().forEach(ModelMaterializer::action);
+      }
+      resources(resource.getResources());
+    }
+  }
+
+  private static void action(Action action) {
+    action.getSuccessStatusCode();
+    parameters(action.getResolvedUriParameters());
+    parameters(action.getQueryParameters());
+    parameters(action.getHeaders());
+    bodies(action.getBody());
+    Map<String, Response> responses = action.getResponses();
+    if (responses != null) {
+      for (Response response : responses.values()) {
+        bodies(response.getBody());
+        parameters(response.getHeaders());
+      }
+    }
+    QueryString queryString = action.queryString();
+    if (queryString != null) {
+      queryString.isArray();
+      parameters(queryString.facets());
+    }
+  }
+
+  private static void bodies(Map<String, MimeType> bodies) {
+    if (bodies == null) {
+      return;
+    }
+    for (MimeType mimeType : bodies.values()) {
+      Map<String, List<Parameter>> formParameters = mimeType.getFormParameters();
+      if (formParameters != null) {
+        formParameters.values().forEach(ModelMaterializer::parameters);
+      }
+    }
+  }
+
+  private static void parameters(Map<String, Parameter> parameters) {
+    if (parameters != null) {
+      parameters(parameters.values());
+    }
+  }
+
+  private static void parameters(Collection<Parameter> parameters) {
+    if (parameters == null) {
+      return;
+    }
+    for (Parameter parameter : parameters) {
+      parameter.isRequired();
+      parameter.isArray();
+      parameter.isNullable();
+      parameter.getDefaultValues();
+    }
+  }
+}
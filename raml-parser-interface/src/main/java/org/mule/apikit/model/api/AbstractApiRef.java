@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.apikit.model.api;
+
+import org.apache.commons.io.IOUtils;
+import org.mule.apikit.common.ContentUtils;
+import org.mule.apikit.model.ApiVendor;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+import static org.mule.apikit.common.ApiVendorUtils.deduceApiVendor;
+import static org.mule.apikit.common.ContentUtils.asInputStream;
+import static org.mule.apikit.common.ContentUtils.read;
+
+/**
+ * Reads the root document once and shares its content, as an immutable buffer, between vendor detection and every parser instead
+ * of opening it again for each of them.
+ * <p>
+ * When the root document is a file, it is memory-mapped if larger than {@link ContentUtils#MAP_THRESHOLD} bytes and read into the
+ * heap otherwise. Its size and modification time are checked whenever the content is requested so a modified file is read again.
+ * Content coming from any other source is read only once.
+ */
+abstract class AbstractApiRef implements ApiReference {
+
+  private volatile RootContent content;
+
+  /**
+   * @return a new stream over the root document as provided by its source, {@code null} if it cannot be read
+   */
+  abstract InputStream open();
+
+  @Override
+  public InputStream resolve() {
+    RootContent current = current();
+    return current != null ? asInputStream(current.bytes) : null;
+  }
+
+  @Override
+  public Optional<ByteBuffer> getContent() {
+    RootContent current = current();
+    return current != null ? Optional.of(current.bytes.duplicate()) : Optional.empty();
+  }
+
+  @Override
+  public ApiVendor getVendor() {
+    RootContent current = current();
+    if (current == null) {
+      return ApiReference.super.getVendor();
+    }
+    ApiVendor vendor = current.vendor;
+    if (vendor == null) {
+      vendor = deduceApiVendor(getFormat(), asInputStream(current.bytes));
+      current.vendor = vendor;
+    }
+    return vendor;
+  }
+
+  private RootContent current() {
+    RootContent current = content;
+    if (current != null && current.isUpToDate()) {
+      return current;
+    }
+    synchronized (this) {
+      current = content;
+      if (current == null || !current.isUpToDate()) {
+        current = load();
+        content = current;
+      }
+      return current;
+    }
+  }
+
+  private RootContent load() {
+    try {
+      File file = toFile();
+      if (file != null) {
+        long lastModified = file.lastModified();
+        long length = file.length();
+        return new RootContent(read(file), file, lastModified, length);
+      }
+      try (InputStream in = open()) {
+        return in != null ? new RootContent(ByteBuffer.wrap(IOUtils.toByteArray(in)).asReadOnlyBuffer(), null) : null;
+      }
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  private File toFile() {
+    try {
+      URI uri = getPathAsUri();
+      if ("file".equalsIgnoreCase(uri.getScheme())) {
+        File file = new File(uri);
+        return file.isFile() ? file : null;
+      }
+    } catch (RuntimeException e) {
+      // not a file, read it from its source
+    }
+    return null;
+  }
+
+  private static final class RootContent {
+
+    private final ByteBuffer bytes;
+    private final File file;
+    private final long lastModified;
+    private final long length;
+    private volatile ApiVendor vendor;
+
+    RootContent(ByteBuffer bytes, File file) {
+      this(bytes, file, 0, 0);
+    }
+
+    RootContent(ByteBuffer bytes, File file, long lastModified, long length) {
+      this.bytes = bytes;
+      this.file = file;
+      this.lastModified = lastModified;
+      this.length = length;
+    }
+
+    boolean isUpToDate() {
+      return file == null || (file.lastModified() == lastModified && file.length() == length);
+    }
+  }
+}
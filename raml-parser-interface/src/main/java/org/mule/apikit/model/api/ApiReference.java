@@ -7,7 +7,6 @@
 package org.mule.apikit.model.api;
 
 import org.mule.apikit.loader.ResourceLoader;
-import org.mule.apikit.model.ApiFormat;
 import org.mule.apikit.model.ApiVendor;
 
 import java.io.File;
@@ -15,12 +14,11 @@ import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.util.Optional;
 
 import static org.mule.apikit.common.ApiSyncUtils.isSyncProtocol;
 import static org.mule.apikit.common.ApiVendorUtils.deduceApiVendor;
-import static org.mule.apikit.common.ApiVendorUtils.getRamlVendor;
-import static org.mule.apikit.model.ApiVendor.RAML_10;
 
 public interface ApiReference {
 
@@ -57,15 +55,16 @@ public interface ApiReference {
 
   Optional<ResourceLoader> getResourceLoader();
 
-  default ApiVendor getVendor() {
-    final String format = getFormat();
-
-    if (ApiFormat.RAML.name().equalsIgnoreCase(format)) {
-      final ApiVendor ramlVendor = getRamlVendor(resolve());
-      return ramlVendor != null ? ramlVendor : RAML_10;
-    }
+  /**
+   * @return the content of the root document as a read-only buffer positioned at its start, empty if the implementation doesn't
+   *         keep it in memory or it cannot be read
+   */
+  default Optional<ByteBuffer> getContent() {
+    return Optional.empty();
+  }
 
-    return deduceApiVendor(resolve());
+  default ApiVendor getVendor() {
+    return deduceApiVendor(getFormat(), resolve());
   }
 
   default URI getPathAsUri() {
@@ -17,7 +17,7 @@ import java.util.Optional;
 
 import static java.lang.String.format;
 
-class ApiSyncApiRef implements ApiReference {
+class ApiSyncApiRef extends AbstractApiRef {
 
   private static final String RESOURCE_FORMAT = "resource::%s:%s:%s:%s:%s:%s";
 
@@ -27,6 +27,7 @@ class ApiSyncApiRef implements ApiReference {
   private String classifier;
   private String packager;
   private String file;
+  private String location;
 
   private ResourceLoader resourceLoader;
 
@@ -51,6 +52,7 @@ class ApiSyncApiRef implements ApiReference {
     classifier = parts[3];
     packager = parts[4];
     file = parts[5];
+    location = format(RESOURCE_FORMAT, groupId, artifact, version, classifier, packager, file);
   }
 
   public boolean equals(ApiSyncApiRef resource, Boolean checkVersion) {
@@ -65,7 +67,7 @@ class ApiSyncApiRef implements ApiReference {
 
   @Override
   public String getLocation() {
-    return format(RESOURCE_FORMAT, groupId, artifact, version, classifier, packager, file);
+    return location;
   }
 
   @Override
@@ -74,7 +76,7 @@ class ApiSyncApiRef implements ApiReference {
   }
 
   @Override
-  public InputStream resolve() {
+  InputStream open() {
     return resourceLoader.getResourceAsStream(getLocation());
   }
 
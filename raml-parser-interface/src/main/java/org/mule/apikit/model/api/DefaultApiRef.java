@@ -15,7 +15,7 @@ import java.io.FileInputStream;
 import java.io.InputStream;
 import java.util.Optional;
 
-class DefaultApiRef implements ApiReference {
+class DefaultApiRef extends AbstractApiRef {
 
   private String location;
   private ResourceLoader resourceLoader;
@@ -40,7 +40,7 @@ class DefaultApiRef implements ApiReference {
   }
 
   @Override
-  public InputStream resolve() {
+  InputStream open() {
     if (resourceLoader != null) {
       return resourceLoader.getResourceAsStream(location);
     } else {
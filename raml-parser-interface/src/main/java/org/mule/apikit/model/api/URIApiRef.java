@@ -16,7 +16,7 @@ import java.net.URI;
 import java.nio.file.Paths;
 import java.util.Optional;
 
-class URIApiRef implements ApiReference {
+class URIApiRef extends AbstractApiRef {
 
   private URI uri;
   private Optional<ResourceLoader> resourceLoader;
@@ -41,7 +41,7 @@ class URIApiRef implements ApiReference {
   }
 
   @Override
-  public InputStream resolve() {
+  InputStream open() {
     if (resourceLoader.isPresent()) {
       return resourceLoader.get().getResourceAsStream(getLocation());
     } else {
@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.apikit.routing;
+
+import org.mule.apikit.model.ApiSpecification;
+import org.mule.apikit.model.Resource;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Matches request paths against the resources of an api.
+ * <p>
+ * Resource uris are compiled into a trie with one level per path segment. At every level literal segments are tried first, then
+ * segments mixing literals and uri parameters (e.g. {@code {name}.{ext}}) and finally segments made of a single uri parameter, so
+ * {@code /users/me} wins over {@code /users/{id}}. When a branch doesn't lead to a resource the next alternative is tried.
+ * <p>
+ * Matching doesn't create substrings of the request path, uri parameter values are only extracted when they are requested from
+ * the returned {@link RouteMatch}. Uri parameters never match an empty segment nor span more than one segment, their values are
+ * not percent-decoded. A trailing slash in the request path is ignored.
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ */
+public final class ResourceRouter {
+
+  private final Node root;
+  private final int maxUriParameters;
+
+  /**
+   * @param resources resources to route to, keyed by their full uri template
+   */
+  public ResourceRouter(Map<String, Resource> resources) {
+    Builder builder = new Builder();
+    resources.forEach(builder::add);
+    this.root = builder.root.compile();
+    this.maxUriParameters = builder.maxUriParameters;
+  }
+
+  /**
+   * Builds a router over every resource of the given api, including nested ones.
+   */
+  public static ResourceRouter of(ApiSpecification api) {
+    Map<String, Resource> resources = new LinkedHashMap<>();
+    collect(api.getResources().values(), resources);
+    return new ResourceRouter(resources);
+  }
+
+  private static void collect(Collection<Resource> resources, Map<String, Resource> result) {
+    for (Resource resource : resources) {
+      result.putIfAbsent(resource.getUri(), resource);
+      collect(resource.getResources().values(), result);
+    }
+  }
+
+  /**
+   * @param path raw request path, relative to the api base path, e.g. {@code /users/10/orders}
+   * @return the matching resource or {@code null} if no resource matches
+   */
+  public RouteMatch match(String path) {
+    int start = path.startsWith("/") ? 1 : 0;
+    int[] captures = new int[maxUriParameters * 2];
+    Terminal terminal = root.match(path, start, captures, 0);
+    return terminal != null ? new RouteMatch(terminal.resource, terminal.uriTemplate, terminal.uriParameterNames, path, captures)
+        : null;
+  }
+
+  private static final class Builder {
+
+    private final BuildNode root = new BuildNode();
+    private int maxUriParameters;
+
+    void add(String uriTemplate, Resource resource) {
+      BuildNode node = root;
+      List<String> names = new ArrayList<>();
+      int start = uriTemplate.startsWith("/") ? 1 : 0;
+      while (start < uriTemplate.length()) {
+        int end = uriTemplate.indexOf('/', start);
+        if (end < 0) {
+          end = uriTemplate.length();
+        }
+        node = node.child(uriTemplate.substring(start, end), names);
+        start = end + 1;
+      }
+      if (node.terminal == null) {
+        node.terminal = new Terminal(resource, uriTemplate, names.toArray(new String[0]));
+        maxUriParameters = Math.max(maxUriParameters, names.size());
+      }
+    }
+  }
+
+  private static final class BuildNode {
+
+    private final Map<String, BuildNode> literals = new LinkedHashMap<>();
+    private final Map<String, BuildNode> mixed = new LinkedHashMap<>();
+    private BuildNode wildcard;
+    private Terminal terminal;
+
+    BuildNode child(String segment, List<String> names) {
+      int open = segment.indexOf('{');
+      if (open < 0 || segment.indexOf('}', open) < 0) {
+        return literals.computeIfAbsent(segment, s -> new BuildNode());
+      }
+      List<String> segmentNames = SegmentTemplate.parameterNames(segment);
+      names.addAll(segmentNames);
+      if (segment.startsWith("{") && segment.endsWith("}") && segmentNames.size() == 1
+          && segment.length() == segmentNames.get(0).length() + 2) {
+        if (wildcard == null) {
+          wildcard = new BuildNode();
+        }
+        return wildcard;
+      }
+      return mixed.computeIfAbsent(segment, s -> new BuildNode());
+    }
+
+    Node compile() {
+      LiteralTable literalTable = literals.isEmpty() ? null : new LiteralTable(literals);
+      SegmentTemplate[] templates = new SegmentTemplate[mixed.size()];
+      Node[] templateNodes = new Node[mixed.size()];
+      int i = 0;
+      for (Map.Entry<String, BuildNode> entry : mixed.entrySet()) {
+        templates[i] = new SegmentTemplate(entry.getKey());
+        templateNodes[i++] = entry.getValue().compile();
+      }
+      return new Node(literalTable, templates, templateNodes, wildcard != null ? wildcard.compile() : null, terminal);
+    }
+  }
+
+  private static final class Node {
+
+    private final LiteralTable literals;
+    private final SegmentTemplate[] templates;
+    private final Node[] templateNodes;
+    private final Node wildcard;
+    private final Terminal terminal;
+
+    Node(LiteralTable literals, SegmentTemplate[] templates, Node[] templateNodes, Node wildcard, Terminal terminal) {
+      this.literals = literals;
+      this.templates = templates;
+      this.templateNodes = templateNodes;
+      this.wildcard = wildcard;
+      this.terminal = terminal;
+    }
+
+    /**
+     * @param start index where the next segment starts, past the end of {@code path} once every segment has been consumed
+     * @param count number of offsets already stored in {@code captures}
+     */
+    Terminal match(String path, int start, int[] captures, int count) {
+      if (start >= path.length()) {
+        return terminal;
+      }
+      int end = path.indexOf('/', start);
+      if (end < 0) {
+        end = path.length();
+      }
+
+      if (literals != null) {
+        Node child = literals.get(path, start, end);
+        if (child != null) {
+          Terminal result = child.match(path, end + 1, captures, count);
+          if (result != null) {
+            return result;
+          }
+        }
+      }
+      for (int i = 0; i < templates.length; i++) {
+        int captured = templates[i].match(path, start, end, captures, count);
+        if (captured >= 0) {
+          Terminal result = templateNodes[i].match(path, end + 1, captures, captured);
+          if (result != null) {
+            return result;
+          }
+        }
+      }
+      if (wildcard != null && end > start) {
+        captures[count] = start;
+        captures[count + 1] = end;
+        return wildcard.match(path, end + 1, captures, count + 2);
+      }
+      return null;
+    }
+  }
+
+  private static final class Terminal {
+
+    private final Resource resource;
+    private final String uriTemplate;
+    private final String[] uriParameterNames;
+
+    Terminal(Resource resource, String uriTemplate, String[] uriParameterNames) {
+      this.resource = resource;
+      this.uriTemplate = uriTemplate;
+      this.uriParameterNames = uriParameterNames;
+    }
+  }
+
+  /**
+   * Open addressing hash table of literal segments, probed with a region of the request path.
+   */
+  private static final class LiteralTable {
+
+    private final String[] keys;
+    private final Node[] nodes;
+    private final int mask;
+
+    LiteralTable(Map<String, BuildNode> literals) {
+      int capacity = Integer.highestOneBit(Math.max(2, literals.size() * 2 - 1)) << 1;
+      this.keys = new String[capacity];
+      this.nodes = new Node[capacity];
+      this.mask = capacity - 1;
+      literals.forEach((key, node) -> {
+        int slot = hash(key, 0, key.length()) & mask;
+        while (keys[slot] != null) {
+          slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        nodes[slot] = node.compile();
+      });
+    }
+
+    Node get(String path, int start, int end) {
+      int length = end - start;
+      int slot = hash(path, start, end) & mask;
+      String key;
+      while ((key = keys[slot]) != null) {
+        if (key.length() == length && path.regionMatches(start, key, 0, length)) {
+          return nodes[slot];
+        }
+        slot = (slot + 1) & mask;
+      }
+      return null;
+    }
+
+    private static int hash(String value, int start, int end) {
+      int h = 0;
+      for (int i = start; i < end; i++) {
+        h = 31 * h + value.charAt(i);
+      }
+      return h ^ (h >>> 16);
+    }
+  }
+
+  /**
+   * A segment mixing literal text and uri parameters, e.g. {@code {name}.{ext}} or {@code v{major}}.
+   */
+  private static final class SegmentTemplate {
+
+    // literal parts at even positions, null at odd positions standing for a uri parameter
+    private final String[] parts;
+
+    SegmentTemplate(String segment) {
+      List<String> result = new ArrayList<>();
+      int position = 0;
+      while (position < segment.length()) {
+        int open = segment.indexOf('{', position);
+        int close = open < 0 ? -1 : segment.indexOf('}', open);
+        if (close < 0) {
+          result.add(segment.substring(position));
+          break;
+        }
+        result.add(segment.substring(position, open));
+        result.add(null);
+        position = close + 1;
+      }
+      if (result.size() % 2 == 0) {
+        result.add("");
+      }
+      this.parts = result.toArray(new String[0]);
+    }
+
+    static List<String> parameterNames(String segment) {
+      List<String> names = new ArrayList<>();
+      int position = 0;
+      int open;
+      while ((open = segment.indexOf('{', position)) >= 0) {
+        int close = segment.indexOf('}', open);
+        if (close < 0) {
+          break;
+        }
+        names.add(segment.substring(open + 1, close));
+        position = close + 1;
+      }
+      return names;
+    }
+
+    /**
+     * @return the number of offsets stored in {@code captures} after matching, or -1 if the segment doesn't match
+     */
+    int match(String path, int start, int end, int[] captures, int count) {
+      return match(0, path, start, end, captures, count);
+    }
+
+    private int match(int part, String path, int position, int end, int[] captures, int count) {
+      String literal = parts[part];
+      if (position + literal.length() > end || !path.regionMatches(position, literal, 0, literal.length())) {
+        return -1;
+      }
+      position += literal.length();
+      if (part == parts.length - 1) {
+        return position == end ? count : -1;
+      }
+      // uri parameter, greedy: try the longest value first
+      for (int valueEnd = end; valueEnd > position; valueEnd--) {
+        captures[count] = position;
+        captures[count + 1] = valueEnd;
+        int result = match(part + 2, path, valueEnd, end, captures, count + 2);
+        if (result >= 0) {
+          return result;
+        }
+      }
+      return -1;
+    }
+  }
+}
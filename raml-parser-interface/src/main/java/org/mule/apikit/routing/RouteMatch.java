@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.apikit.routing;
+
+import org.mule.apikit.model.Resource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * Result of a {@link ResourceRouter} lookup. Uri parameter values are extracted from the request path on demand.
+ */
+public final class RouteMatch {
+
+  private final Resource resource;
+  private final String uriTemplate;
+  private final String[] uriParameterNames;
+  private final String path;
+  private final int[] offsets;
+
+  RouteMatch(Resource resource, String uriTemplate, String[] uriParameterNames, String path, int[] offsets) {
+    this.resource = resource;
+    this.uriTemplate = uriTemplate;
+    this.uriParameterNames = uriParameterNames;
+    this.path = path;
+    this.offsets = offsets;
+  }
+
+  public Resource getResource() {
+    return resource;
+  }
+
+  public String getUriTemplate() {
+    return uriTemplate;
+  }
+
+  public int getUriParameterCount() {
+    return uriParameterNames.length;
+  }
+
+  public String getUriParameterName(int index) {
+    return uriParameterNames[index];
+  }
+
+  public String getUriParameterValue(int index) {
+    if (index < 0 || index >= uriParameterNames.length) {
+      throw new IndexOutOfBoundsException("Uri parameter index: " + index);
+    }
+    return path.substring(offsets[index * 2], offsets[index * 2 + 1]);
+  }
+
+  /**
+   * @return the raw value of the given uri parameter or {@code null} if the matched template doesn't declare it. When declared
+   *         more than once, the last value is returned.
+   */
+  public String getUriParameter(String name) {
+    for (int i = uriParameterNames.length - 1; i >= 0; i--) {
+      if (uriParameterNames[i].equals(name)) {
+        return getUriParameterValue(i);
+      }
+    }
+    return null;
+  }
+
+  public Map<String, String> getUriParameters() {
+    Map<String, String> parameters = new LinkedHashMap<>();
+    for (int i = 0; i < uriParameterNames.length; i++) {
+      parameters.put(uriParameterNames[i], getUriParameterValue(i));
+    }
+    return unmodifiableMap(parameters);
+  }
+
+  @Override
+  public String toString() {
+    return uriTemplate + " " + getUriParameters();
+  }
+}
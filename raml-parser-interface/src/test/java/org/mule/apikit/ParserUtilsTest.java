@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.apikit;
+
+import org.junit.Test;
+import org.mule.apikit.model.parameter.FileProperties;
+import org.mule.apikit.model.parameter.Parameter;
+import org.mule.metadata.api.model.MetadataType;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static org.junit.Assert.assertEquals;
+import static org.mule.apikit.ParserUtils.validateQueryString;
+
+public class ParserUtilsTest {
+
+  private static Map<String, Parameter> emailFacets() {
+    Map<String, Parameter> facets = new LinkedHashMap<>();
+    facets.put("subject", new FacetStub(true, false, false));
+    facets.put("to", new FacetStub(true, true, false));
+    facets.put("body", new FacetStub(false, false, true));
+    return facets;
+  }
+
+  @Test
+  public void validQueryString() {
+    Map<String, Collection<?>> queryParams = new HashMap<>();
+    queryParams.put("subject", singletonList("Email Subject"));
+    queryParams.put("to", asList("John", "Ana"));
+    assertEquals(of(true), validateQueryString(emailFacets(), queryParams));
+  }
+
+  @Test
+  public void severalValuesForAScalarFacet() {
+    Map<String, Collection<?>> queryParams = new HashMap<>();
+    queryParams.put("subject", asList("first", "second"));
+    queryParams.put("to", singletonList("John"));
+    assertEquals(of(false), validateQueryString(emailFacets(), queryParams));
+  }
+
+  @Test
+  public void missingRequiredFacet() {
+    assertEquals(of(false), validateQueryString(emailFacets(), singletonMap("to", singletonList("John"))));
+  }
+
+  @Test
+  public void unknownParameterValidatesAnEmptyObject() {
+    assertEquals(of(false), validateQueryString(emailFacets(), singletonMap("cc", singletonList("Ana"))));
+
+    Map<String, Parameter> optionalFacets = new HashMap<>();
+    optionalFacets.put("body", new FacetStub(false, false, true));
+    assertEquals(of(true), validateQueryString(optionalFacets, singletonMap("cc", singletonList("Ana"))));
+  }
+
+  @Test
+  public void arrayFacetChecksItsBounds() {
+    Map<String, Parameter> facets = new HashMap<>();
+    facets.put("to", new FacetStub(true, true, false).items(1, 2));
+    assertEquals(of(true), validateQueryString(facets, singletonMap("to", asList("John", "Ana"))));
+    assertEquals(of(false), validateQueryString(facets, singletonMap("to", asList("John", "Ana", "Bob"))));
+    assertEquals(of(false), validateQueryString(facets, singletonMap("to", emptyList())));
+  }
+
+  @Test
+  public void undecidedValuesAreLeftToTheCaller() {
+    Map<String, Collection<?>> queryParams = new HashMap<>();
+    queryParams.put("subject", singletonList("Email Subject"));
+    queryParams.put("to", singletonList("John"));
+    queryParams.put("body", singletonList(null));
+    assertEquals(empty(), validateQueryString(emailFacets(), queryParams));
+
+    queryParams.remove("body");
+    queryParams.put("subject", singletonList(null));
+    assertEquals(empty(), validateQueryString(emailFacets(), queryParams));
+  }
+
+  private static Map<String, Collection<?>> singletonMap(String key, Collection<?> values) {
+    Map<String, Collection<?>> queryParams = new HashMap<>();
+    queryParams.put(key, values);
+    return queryParams;
+  }
+
+  private static class FacetStub implements Parameter {
+
+    private final boolean required;
+    private final boolean array;
+    private final boolean nullable;
+    private Optional<Integer> minItems = empty();
+    private Optional<Integer> maxItems = empty();
+
+    FacetStub(boolean required, boolean array, boolean nullable) {
+      this.required = required;
+      this.array = array;
+      this.nullable = nullable;
+    }
+
+    FacetStub items(int min, int max) {
+      minItems = of(min);
+      maxItems = of(max);
+      return this;
+    }
+
+    @Override
+    public boolean isRequired() {
+      return required;
+    }
+
+    @Override
+    public String getDefaultValue() {
+      return null;
+    }
+
+    @Override
+    public List<String> getDefaultValues() {
+      return emptyList();
+    }
+
+    @Override
+    public boolean isRepeat() {
+      return false;
+    }
+
+    @Override
+    public boolean isArray() {
+      return array;
+    }
+
+    @Override
+    public boolean validate(String value) {
+      return true;
+    }
+
+    @Override
+    public boolean validateArray(Collection<?> values) {
+      return true;
+    }
+
+    @Override
+    public String message(String value) {
+      return null;
+    }
+
+    @Override
+    public String messageFromValues(Collection<?> values) {
+      return null;
+    }
+
+    @Override
+    public String getDisplayName() {
+      return null;
+    }
+
+    @Override
+    public String getDescription() {
+      return null;
+    }
+
+    @Override
+    public String getExample() {
+      return null;
+    }
+
+    @Override
+    public Map<String, String> getExamples() {
+      return emptyMap();
+    }
+
+    @Override
+    public Object getInstance() {
+      return null;
+    }
+
+    @Override
+    public MetadataType getMetadata() {
+      return null;
+    }
+
+    @Override
+    public boolean isScalar() {
+      return !array;
+    }
+
+    @Override
+    public boolean isFacetArray(String facet) {
+      return false;
+    }
+
+    @Override
+    public String surroundWithQuotesIfNeeded(String value) {
+      return value;
+    }
+
+    @Override
+    public Optional<FileProperties> getFileProperties() {
+      return empty();
+    }
+
+    @Override
+    public boolean isNullable() {
+      return nullable;
+    }
+
+    @Override
+    public Optional<Integer> getMaxItems() {
+      return maxItems;
+    }
+
+    @Override
+    public Optional<Integer> getMinItems() {
+      return minItems;
+    }
+  }
+}
@@ -11,11 +11,20 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.mule.apikit.model.ApiVendor;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.util.Arrays;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.mule.apikit.common.ApiVendorUtils.deduceApiVendor;
+import static org.mule.apikit.common.ApiVendorUtils.deduceApiVendorByLine;
+import static org.mule.apikit.model.ApiVendor.OAS_20;
+import static org.mule.apikit.model.ApiVendor.OAS_30;
+import static org.mule.apikit.model.ApiVendor.RAML_08;
+import static org.mule.apikit.model.ApiVendor.RAML_10;
 
 @RunWith(Parameterized.class)
 public class ApiVendorUtilsTest {
@@ -38,6 +47,7 @@ public class ApiVendorUtilsTest {
         {"raml08.raml", ApiVendor.RAML_08},
         {"raml10.raml", ApiVendor.RAML_10},
         {"swagger.json", ApiVendor.OAS_20},
+        {"swagger.yaml", ApiVendor.OAS_20},
         {"openapi-unindented.json", ApiVendor.OAS_30},
     });
   }
@@ -48,9 +58,63 @@ public class ApiVendorUtilsTest {
     assertEquals(expectedVendor, actualVendor);
   }
 
+  @Test
+  public void scannerAgreesWithLineByLineDetection() {
+    ApiVendor byLine = deduceApiVendorByLine(getResource(BASE_PATH + testName));
+    assertEquals(byLine, getApiVendor(BASE_PATH + testName));
+  }
+
+  @Test
+  public void ramlHeader() {
+    assertThat(deduce("\n  \n#%RAML 0.8\ntitle: api"), is(RAML_08));
+    assertThat(deduce("#%raml 1.0 Library\nusage: types"), is(RAML_10));
+    assertThat(deduce("\uFEFF#%RAML 0.8\ntitle: api"), is(RAML_08));
+  }
+
+  @Test
+  public void versionDeclarations() {
+    assertThat(deduce("info:\n  title: api\nswagger: '2.0'\n"), is(OAS_20));
+    assertThat(deduce("{\"info\":{\"title\":\"api\"},\"openapi\" : \"3.0.2\"}"), is(OAS_30));
+    assertThat(deduce("openapi:3.0.1"), is(OAS_30));
+    assertThat(deduce("openapi: 3.1.0\n"), is(RAML_10));
+    assertThat(deduce("openapi: 3.0."), is(RAML_10));
+    assertThat(deduce("title: api\n"), is(RAML_10));
+  }
+
+  @Test
+  public void commentsAreSkipped() {
+    assertThat(deduce("# swagger: '2.0'\nopenapi: 3.0.0\n"), is(OAS_30));
+    assertThat(deduce("title: api # openapi: 3.0.0\nswagger: \"2.0\"\n"), is(OAS_20));
+    assertThat(deduce("#%RAML 1.1\n# openapi: 3.0.0\n"), is(RAML_10));
+  }
+
+  @Test
+  public void hashInsideJsonStringIsNotAComment() {
+    assertThat(deduce("{\"paths\":{\"$ref\":\"#/definitions/pet\"},\"swagger\":\"2.0\"}"), is(OAS_20));
+  }
+
+  @Test
+  public void fallsBackWhenTheDeclarationIsPastTheLimit() {
+    StringBuilder api = new StringBuilder("info:\n");
+    for (int i = 0; i < 100; i++) {
+      api.append("  x-line").append(i).append(": value\n");
+    }
+    api.append("openapi: 3.0.0\n");
+
+    assertThat(deduceApiVendor(new ByteArrayInputStream(api.toString().getBytes(UTF_8)), 64), is(OAS_30));
+    assertThat(deduceApiVendor(new ByteArrayInputStream("swagger: '2.0'".getBytes(UTF_8)), 8), is(OAS_20));
+  }
+
   private static ApiVendor getApiVendor(String path) {
-    InputStream inputStream = Thread.currentThread().getContextClassLoader().getResourceAsStream(path);
-    return deduceApiVendor(inputStream);
+    return deduceApiVendor(getResource(path));
+  }
+
+  private static InputStream getResource(String path) {
+    return Thread.currentThread().getContextClassLoader().getResourceAsStream(path);
+  }
+
+  private static ApiVendor deduce(String content) {
+    return deduceApiVendor(new ByteArrayInputStream(content.getBytes(UTF_8)));
   }
 
 }
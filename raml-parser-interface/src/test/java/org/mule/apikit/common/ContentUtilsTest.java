@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.apikit.common;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mule.apikit.common.ContentUtils.MAP_THRESHOLD;
+import static org.mule.apikit.common.ContentUtils.asInputStream;
+import static org.mule.apikit.common.ContentUtils.decodeUtf8;
+import static org.mule.apikit.common.ContentUtils.read;
+import static org.mule.apikit.common.ReferencesUtils.isWindows;
+
+public class ContentUtilsTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void smallFilesAreReadIntoTheHeap() throws IOException {
+    ByteBuffer content = read(write("{\"title\": \"caf\u00e9\"}"));
+
+    assertThat(content.isDirect(), is(false));
+    assertThat(content.isReadOnly(), is(true));
+    assertThat(decodeUtf8(content), is("{\"title\": \"caf\u00e9\"}"));
+  }
+
+  @Test
+  public void largeFilesAreMappedOutsideWindows() throws IOException {
+    char[] chars = new char[MAP_THRESHOLD + 1];
+    Arrays.fill(chars, '\u00e9');
+    String schema = new String(chars);
+    ByteBuffer content = read(write(schema));
+
+    assertThat(content.isDirect(), is(!isWindows()));
+    assertThat(content.isReadOnly(), is(true));
+    assertThat(decodeUtf8(content), is(schema));
+  }
+
+  @Test
+  public void buffersAreNotConsumed() throws IOException {
+    ByteBuffer content = read(write("type: string"));
+
+    assertThat(decodeUtf8(content), is("type: string"));
+    try (InputStream in = asInputStream(content)) {
+      assertThat(IOUtils.toString(in, UTF_8.name()), is("type: string"));
+    }
+    assertThat(content.position(), is(0));
+    assertThat(decodeUtf8(content), is("type: string"));
+  }
+
+  @Test
+  public void malformedInputIsReplaced() {
+    ByteBuffer content = ByteBuffer.wrap(new byte[] {'a', (byte) 0xC3, 'b'});
+
+    assertThat(decodeUtf8(content), is("a\uFFFDb"));
+  }
+
+  private File write(String content) throws IOException {
+    File file = folder.newFile();
+    Files.write(file.toPath(), content.getBytes(UTF_8));
+    return file;
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.apikit.common;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mule.apikit.common.ApiSyncUtils.isExchangeModules;
+import static org.mule.apikit.common.ExchangeModulesIndex.getDependencyPath;
+
+public class ExchangeModulesIndexTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private Path root;
+  private ExchangeModulesIndex index;
+
+  @Before
+  public void setUp() throws IOException {
+    root = folder.getRoot().toPath();
+    Files.createDirectories(root.resolve("exchange_modules/org.mule/types/1.0.0/folder"));
+    Files.createDirectories(root.resolve("exchange_modules/org.mule/types/2.0.0"));
+    Files.createDirectories(root.resolve("exchange_modules/org.mule/traits/1.0.0"));
+    Files.createFile(root.resolve("exchange_modules/org.mule/README.md"));
+    index = ExchangeModulesIndex.of(root);
+  }
+
+  @Test
+  public void modulesAreIndexed() {
+    assertThat(index.size(), is(3));
+  }
+
+  @Test
+  public void resolve() {
+    Path types = root.resolve("exchange_modules/org.mule/types/1.0.0");
+
+    assertThat(index.resolve("exchange_modules/org.mule/types/1.0.0/folder/type.raml"), is(types.resolve("folder/type.raml")));
+    assertThat(index.resolve("/exchange_modules/org.mule/types/1.0.0/type.raml"), is(types.resolve("type.raml")));
+    assertThat(index.resolve("exchange_modules/org.mule/types/1.0.0//type.raml"), is(types.resolve("type.raml")));
+  }
+
+  @Test
+  public void unknownModulesAreNotResolved() {
+    assertThat(index.resolve("exchange_modules/org.mule/types/3.0.0/type.raml"), nullValue());
+    assertThat(index.resolve("exchange_modules/org.mule/types/type.raml"), nullValue());
+    assertThat(index.resolve("types/1.0.0/type.raml"), nullValue());
+  }
+
+  @Test
+  public void missingExchangeModulesFolder() {
+    ExchangeModulesIndex empty = ExchangeModulesIndex.of(Paths.get(folder.getRoot().getPath(), "missing"));
+
+    assertThat(empty.size(), is(0));
+    assertThat(empty.resolve("exchange_modules/org.mule/types/1.0.0/type.raml"), nullValue());
+  }
+
+  @Test
+  public void dependencyPath() {
+    assertThat(getDependencyPath("exchange_modules/g/a/1.0.0/type.raml"), is("exchange_modules/g/a/1.0.0/type.raml"));
+    assertThat(getDependencyPath("/api/exchange_modules/g/a/1.0.0/type.raml"), is("/exchange_modules/g/a/1.0.0/type.raml"));
+    assertThat(getDependencyPath("file:///api/exchange_modules/g/a/1.0.0/exchange_modules/h/b/2.0.0/type.raml"),
+               is("/exchange_modules/h/b/2.0.0/type.raml"));
+    assertThat(getDependencyPath("/api/my_exchange_modules/g/a/1.0.0/type.raml"), nullValue());
+  }
+
+  @Test
+  public void exchangeModules() {
+    assertThat(isExchangeModules("exchange_modules/g/a/1.0.0/type.raml"), is(true));
+    assertThat(isExchangeModules("/api/exchange_modules/g/a/1.0.0/"), is(true));
+    assertThat(isExchangeModules("exchange_modules/g/a/1.0.0"), is(false));
+    assertThat(isExchangeModules("exchange_modules/g//1.0.0/type.raml"), is(false));
+    assertThat(isExchangeModules("exchange_modules/g/exchange_modules/g/a/1.0.0/type.raml"), is(true));
+  }
+}
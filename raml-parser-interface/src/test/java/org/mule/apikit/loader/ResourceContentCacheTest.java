@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.apikit.loader;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mule.apikit.common.ContentUtils.MAP_THRESHOLD;
+
+public class ResourceContentCacheTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private final ResourceContentCache cache = new ResourceContentCache(1024);
+
+  @Test
+  public void fileIsReadOnce() throws IOException {
+    URI uri = write("type.raml", "type: string").toURI();
+
+    assertThat(read(uri), is("type: string"));
+    assertThat(read(uri), is("type: string"));
+    assertThat(cache.stats().missCount(), is(1L));
+    assertThat(cache.stats().hitCount(), is(1L));
+  }
+
+  @Test
+  public void modifiedFileIsReadAgain() throws IOException {
+    File file = write("type.raml", "type: string");
+    assertThat(read(file.toURI()), is("type: string"));
+
+    Files.write(file.toPath(), "type: integer".getBytes(UTF_8));
+    file.setLastModified(file.lastModified() + 2000);
+
+    assertThat(read(file.toURI()), is("type: integer"));
+  }
+
+  @Test
+  public void jarEntryIsReadOnceUntilTheJarChanges() throws IOException {
+    File jar = folder.newFile("exchange.jar");
+    writeJar(jar, "type: string");
+    URI uri = URI.create("jar:" + jar.toURI() + "!/fragment/type.raml");
+
+    assertThat(read(uri), is("type: string"));
+    assertThat(read(uri), is("type: string"));
+    assertThat(cache.stats().hitCount(), is(1L));
+
+    writeJar(jar, "type: boolean");
+    jar.setLastModified(jar.lastModified() + 2000);
+
+    assertThat(read(uri), is("type: boolean"));
+  }
+
+  @Test
+  public void contentLargerThanTheCacheIsNotKept() throws IOException {
+    char[] content = new char[2048];
+    Arrays.fill(content, 'a');
+    URI uri = write("large.raml", new String(content)).toURI();
+
+    assertThat(read(uri).length(), is(2048));
+    assertThat(read(uri).length(), is(2048));
+    assertThat(cache.stats().hitCount(), is(0L));
+  }
+
+  @Test
+  public void contentFillingMostOfTheCacheIsKept() throws IOException {
+    char[] content = new char[1000];
+    Arrays.fill(content, 'a');
+    URI uri = write("large.raml", new String(content)).toURI();
+
+    assertThat(read(uri).length(), is(1000));
+    assertThat(read(uri).length(), is(1000));
+    assertThat(cache.stats().hitCount(), is(1L));
+  }
+
+  @Test
+  public void readServesLargeFilesMapped() throws IOException {
+    char[] content = new char[MAP_THRESHOLD + 1];
+    Arrays.fill(content, 'a');
+    URI uri = write("schema.json", new String(content)).toURI();
+    ResourceContentCache large = new ResourceContentCache(2 * MAP_THRESHOLD);
+
+    ByteBuffer first = large.read(uri);
+    ByteBuffer second = large.read(uri);
+
+    assertThat(first.isDirect(), is(true));
+    assertThat(first.isReadOnly(), is(true));
+    assertThat(second.remaining(), is(MAP_THRESHOLD + 1));
+    assertThat(large.stats().hitCount(), is(1L));
+  }
+
+  @Test
+  public void disabled() throws IOException {
+    ResourceContentCache disabled = new ResourceContentCache(0);
+    URI uri = write("type.raml", "type: string").toURI();
+
+    try (InputStream in = disabled.open(uri)) {
+      assertThat(IOUtils.toString(in, UTF_8.name()), is("type: string"));
+    }
+    assertThat(disabled.stats().requestCount(), is(0L));
+  }
+
+  @Test(expected = IOException.class)
+  public void missingFile() throws IOException {
+    cache.open(new File(folder.getRoot(), "missing.raml").toURI());
+  }
+
+  private String read(URI uri) throws IOException {
+    try (InputStream in = cache.open(uri)) {
+      return IOUtils.toString(in, UTF_8.name());
+    }
+  }
+
+  private File write(String name, String content) throws IOException {
+    File file = folder.newFile(name);
+    Files.write(file.toPath(), content.getBytes(UTF_8));
+    return file;
+  }
+
+  private static void writeJar(File jar, String content) throws IOException {
+    try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+      out.putNextEntry(new ZipEntry("fragment/type.raml"));
+      out.write(content.getBytes(UTF_8));
+      out.closeEntry();
+    }
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.apikit.metrics;
+
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mule.apikit.metrics.ParsePhase.PARSE;
+import static org.mule.apikit.metrics.ParsePhase.TRANSFORM;
+import static org.mule.apikit.metrics.ParsePhase.VALIDATION;
+
+public class ParseMetricsTest {
+
+  @Test
+  public void recordsPhases() throws Exception {
+    ParseMetrics metrics = new ParseMetrics();
+
+    ParseMetrics.Timer timer = metrics.start(PARSE);
+    Thread.sleep(5);
+    timer.stop();
+    timer.stop();
+    metrics.recordResourceLoaded(10);
+    metrics.recordResourceLoaded(32);
+
+    assertThat(metrics.getWallTime(PARSE, MILLISECONDS) >= 5, is(true));
+    assertThat(metrics.getWallTime(PARSE, MILLISECONDS) < 5000, is(true));
+    assertThat(metrics.getWallTime(TRANSFORM, NANOSECONDS), is(0L));
+    assertThat(metrics.getResourcesLoaded(), is(2L));
+    assertThat(metrics.getBytesLoaded(), is(42L));
+    assertThat(metrics.isFallbackUsed(), is(false));
+  }
+
+  @Test
+  public void timerStoppedOnAnotherThreadOnlyRecordsWallTime() throws Exception {
+    ParseMetrics metrics = new ParseMetrics();
+    ParseMetrics.Timer timer = metrics.start(VALIDATION);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      executor.submit(() -> {
+        long end = System.nanoTime() + MILLISECONDS.toNanos(2);
+        while (System.nanoTime() < end) {
+          // burn some cpu on the other thread
+        }
+        timer.stop();
+      }).get();
+    } finally {
+      executor.shutdown();
+    }
+
+    assertThat(metrics.getWallTime(VALIDATION, NANOSECONDS) > 0, is(true));
+    assertThat(metrics.getCpuTime(VALIDATION, NANOSECONDS), is(0L));
+    assertThat(metrics.getAllocatedBytes(VALIDATION), is(0L));
+  }
+
+  @Test
+  public void disabledMetricsRecordNothing() {
+    ParseMetrics metrics = ParseMetrics.disabled();
+
+    metrics.start(PARSE).stop();
+    metrics.recordResourceLoaded(10);
+    metrics.recordFallback();
+
+    assertThat(metrics.isEnabled(), is(false));
+    assertThat(metrics.getWallTime(PARSE, NANOSECONDS), is(0L));
+    assertThat(metrics.getResourcesLoaded(), is(0L));
+    assertThat(metrics.isFallbackUsed(), is(false));
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.apikit.metrics;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ParserEventsTest {
+
+  @Test
+  public void offByDefault() {
+    ParserEvents events = ParserEvents.get();
+
+    assertThat(events.isEnabled(), is(false));
+    assertThat(events.beginParse("AMF", "api.raml"),
+               sameInstance(events.beginValidation("payload", "application/json", "api.raml")));
+    events.beginParse("AMF", "api.raml").end(true, 0);
+  }
+
+  @Test
+  public void eventsAreDefinedWhenFlightRecorderIsAvailable() {
+    ParserEvents events = new ParserEvents(true);
+
+    assertThat(events.isEnabled(), is(isFlightRecorderAvailable()));
+    ParserEvents.Event parse = events.beginParse("AMF", "api.raml");
+    ParserEvents.Event validation = events.beginValidation("payload", "application/json", "api.raml");
+    validation.end(false, 12);
+    parse.end(true, 3);
+  }
+
+  private static boolean isFlightRecorderAvailable() {
+    try {
+      Class.forName("jdk.jfr.EventFactory");
+      return true;
+    } catch (ClassNotFoundException e) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.apikit.model.api;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mule.apikit.loader.ResourceLoader;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mule.apikit.common.ContentUtils.MAP_THRESHOLD;
+import static org.mule.apikit.model.ApiVendor.OAS_30;
+import static org.mule.apikit.model.ApiVendor.RAML_08;
+import static org.mule.apikit.model.ApiVendor.RAML_10;
+
+public class ApiReferenceContentTest {
+
+  private static final String RAML_08_API = "#%RAML 0.8\ntitle: api\n";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void rootDocumentIsReadOnce() throws IOException {
+    AtomicInteger reads = new AtomicInteger();
+    ResourceLoader loader = new ResourceLoader() {
+
+      @Override
+      public URI getResource(String relativePath) {
+        return null;
+      }
+
+      @Override
+      public InputStream getResourceAsStream(String relativePath) {
+        reads.incrementAndGet();
+        return new ByteArrayInputStream(RAML_08_API.getBytes(UTF_8));
+      }
+    };
+    ApiReference ref = ApiReference.create("api.raml", loader);
+
+    assertThat(ref.getVendor(), is(RAML_08));
+    assertThat(ref.getVendor(), is(RAML_08));
+    assertThat(read(ref.resolve()), is(RAML_08_API));
+    assertThat(read(ref.resolve()), is(RAML_08_API));
+    assertThat(UTF_8.decode(ref.getContent().get()).toString(), is(RAML_08_API));
+    assertThat(reads.get(), is(1));
+  }
+
+  @Test
+  public void contentIsReadOnly() throws IOException {
+    ApiReference ref = ApiReference.create(write("api.raml", RAML_08_API).getPath());
+
+    ByteBuffer content = ref.getContent().get();
+    content.position(content.limit());
+
+    assertThat(content.isReadOnly(), is(true));
+    assertThat(ref.getContent().get().position(), is(0));
+    assertThat(read(ref.resolve()), is(RAML_08_API));
+  }
+
+  @Test
+  public void modifiedFileIsReadAgain() throws IOException {
+    File file = write("api.raml", RAML_08_API);
+    ApiReference ref = ApiReference.create(file.getPath());
+    assertThat(ref.getVendor(), is(RAML_08));
+
+    String modified = "#%RAML 1.0\ntitle: modified api\n";
+    Files.write(file.toPath(), modified.getBytes(UTF_8));
+    file.setLastModified(file.lastModified() + 2000);
+
+    assertThat(read(ref.resolve()), is(modified));
+    assertThat(ref.getVendor(), is(RAML_10));
+  }
+
+  @Test
+  public void largeFilesAreMapped() throws IOException {
+    char[] padding = new char[MAP_THRESHOLD];
+    Arrays.fill(padding, ' ');
+    String api = "openapi: 3.0.0\ninfo:\n  title: api\n  description: '" + new String(padding) + "'\n";
+    ApiReference ref = ApiReference.create(write("api.yaml", api).toURI());
+
+    assertThat(ref.getContent().get().isDirect(), is(true));
+    assertThat(ref.getVendor(), is(OAS_30));
+    assertThat(read(ref.resolve()), is(api));
+  }
+
+  @Test
+  public void missingDocument() {
+    ApiReference ref = ApiReference.create(new File(folder.getRoot(), "missing.raml").getPath());
+
+    assertThat(ref.getContent().isPresent(), is(false));
+    assertThat(ref.resolve() == null, is(true));
+  }
+
+  private File write(String name, String content) throws IOException {
+    File file = folder.newFile(name);
+    Files.write(file.toPath(), content.getBytes(UTF_8));
+    return file;
+  }
+
+  private static String read(InputStream stream) throws IOException {
+    try (InputStream in = stream) {
+      return IOUtils.toString(in, UTF_8.name());
+    }
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.apikit.routing;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mule.apikit.model.Resource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class ResourceRouterTest {
+
+  private final Map<String, Resource> resources = new LinkedHashMap<>();
+  private ResourceRouter router;
+
+  @Before
+  public void setUp() {
+    add("/");
+    add("/users");
+    add("/users/me");
+    add("/users/{userId}");
+    add("/users/{userId}/orders/{orderId}");
+    add("/users/{id}/profile");
+    add("/files/{name}.{ext}");
+    add("/files/{name}");
+    add("/files/latest/{name}");
+    add("/v{major}/status");
+    router = new ResourceRouter(resources);
+  }
+
+  private void add(String uri) {
+    resources.put(uri, mock(Resource.class));
+  }
+
+  @Test
+  public void literalWinsOverUriParameter() {
+    assertMatch("/users/me", "/users/me");
+    assertMatch("/users/you", "/users/{userId}");
+  }
+
+  @Test
+  public void root() {
+    assertMatch("/", "/");
+    assertMatch("", "/");
+  }
+
+  @Test
+  public void extractsUriParameters() {
+    RouteMatch match = router.match("/users/42/orders/abc-1");
+
+    assertThat(match.getUriParameterCount(), is(2));
+    assertThat(match.getUriParameter("userId"), is("42"));
+    assertThat(match.getUriParameter("orderId"), is("abc-1"));
+    assertThat(match.getUriParameter("missing"), nullValue());
+  }
+
+  @Test
+  public void uriParameterNamesAreTakenFromTheMatchedTemplate() {
+    RouteMatch match = router.match("/users/7/profile");
+
+    assertMatch("/users/7/profile", "/users/{id}/profile");
+    assertThat(match.getUriParameters().size(), is(1));
+    assertThat(match.getUriParameter("id"), is("7"));
+  }
+
+  @Test
+  public void mixedSegments() {
+    RouteMatch match = router.match("/files/report.2020.pdf");
+
+    assertThat(match.getUriTemplate(), is("/files/{name}.{ext}"));
+    assertThat(match.getUriParameter("name"), is("report.2020"));
+    assertThat(match.getUriParameter("ext"), is("pdf"));
+    assertMatch("/files/report", "/files/{name}");
+    assertThat(router.match("/v2/status").getUriParameter("major"), is("2"));
+  }
+
+  @Test
+  public void backtracksWhenLiteralBranchFails() {
+    assertMatch("/files/latest", "/files/{name}");
+    assertMatch("/files/latest/x", "/files/latest/{name}");
+  }
+
+  @Test
+  public void trailingSlashIsIgnored() {
+    assertMatch("/users/", "/users");
+    assertMatch("/users/me/", "/users/me");
+  }
+
+  @Test
+  public void noMatch() {
+    assertThat(router.match("/unknown"), nullValue());
+    assertThat(router.match("/users/1/orders"), nullValue());
+    assertThat(router.match("/users//orders/1"), nullValue());
+    assertThat(router.match("/users/1/orders/2/3"), nullValue());
+  }
+
+  @Test
+  public void manyLiterals() {
+    Map<String, Resource> many = new LinkedHashMap<>();
+    for (int i = 0; i < 600; i++) {
+      many.put("/resource" + i + "/{id}", mock(Resource.class));
+    }
+    ResourceRouter manyRouter = new ResourceRouter(many);
+
+    for (int i = 0; i < 600; i++) {
+      RouteMatch match = manyRouter.match("/resource" + i + "/" + i);
+      assertThat(match.getResource(), sameInstance(many.get("/resource" + i + "/{id}")));
+      assertThat(match.getUriParameterValue(0), is(String.valueOf(i)));
+    }
+  }
+
+  private void assertMatch(String path, String template) {
+    RouteMatch match = router.match(path);
+    assertThat(match.getUriTemplate(), is(template));
+    assertThat(match.getResource(), sameInstance(resources.get(template)));
+  }
+}